@@ -1,64 +1,255 @@
 package com.jme3.jfx.injfx;
 
-import com.ss.rlib.common.util.ArrayUtils;
-import com.ss.rlib.common.util.array.Array;
-import com.ss.rlib.common.util.array.ArrayFactory;
-import com.ss.rlib.common.util.array.ConcurrentArray;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
- * The executor for executing tasks in application thread.
+ * The executor for executing tasks in application thread. Tasks can be added from any threads without locking,
+ * the application thread executes them by priorities within the time budget of a frame, tasks which don't fit
+ * the budget are executed in next frames. Tasks with the same priority are executed in the order of adding,
+ * but a task with a higher priority overtakes tasks with lower priorities which were added earlier.
  *
  * @author JavaSaBr
  */
 public class ApplicationThreadExecutor {
 
+    /**
+     * The priorities of tasks, tasks with higher priorities are executed first.
+     */
+    public enum TaskPriority {
+        /**
+         * Tasks which bind, reshape and destroy processors and applications, they are executed before
+         * {@link #USER} tasks which were added earlier, so a user task which should be executed before binding
+         * should be completed before adding the binding task.
+         */
+        LIFECYCLE,
+        /**
+         * Other tasks.
+         */
+        USER
+    }
+
+    /**
+     * The default time budget of executing tasks in one frame in nanoseconds.
+     */
+    public static final long DEFAULT_TIME_BUDGET = TimeUnit.MILLISECONDS.toNanos(4);
+
+    /**
+     * The smoothing factor of the average latency.
+     */
+    private static final float LATENCY_SMOOTHING = 0.1f;
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
     private static final ApplicationThreadExecutor INSTANCE = new ApplicationThreadExecutor();
 
+    /**
+     * Get the shared executor which is executed by every {@link JmeToJfxApplication}.
+     *
+     * @return the shared executor.
+     * @deprecated use the executor of the application {@link JmeToJfxApplication#getExecutor()}.
+     */
+    @Deprecated
     public static @NotNull ApplicationThreadExecutor getInstance() {
         return INSTANCE;
     }
 
     /**
-     * The list of waiting tasks.
+     * The queued task with the time of adding.
+     */
+    private static final class QueuedTask {
+
+        @NotNull
+        private final Runnable task;
+
+        private final long addTime;
+
+        private QueuedTask(@NotNull Runnable task, long addTime) {
+            this.task = task;
+            this.addTime = addTime;
+        }
+    }
+
+    /**
+     * The queues of waiting tasks by priorities.
      */
     @NotNull
-    private final ConcurrentArray<Runnable> waitTasks;
+    private final Queue<QueuedTask>[] waitTasks;
 
     /**
-     * The list of tasks to execute.
+     * The count of waiting tasks.
      */
     @NotNull
-    private final Array<Runnable> execute;
+    private final AtomicInteger queueSize;
 
-    private ApplicationThreadExecutor() {
-        this.waitTasks = ArrayFactory.newConcurrentAtomicARSWLockArray(Runnable.class);
-        this.execute = ArrayFactory.newArray(Runnable.class);
+    /**
+     * The flag of executing tasks by some thread, tasks are executed only by one thread at the same time.
+     */
+    @NotNull
+    private final AtomicBoolean executing;
+
+    /**
+     * The time budget of executing tasks in one frame in nanoseconds.
+     */
+    private volatile long timeBudget;
+
+    /**
+     * The average time between adding and executing tasks in nanoseconds.
+     */
+    private volatile long averageLatency;
+
+    /**
+     * The max time between adding and executing tasks in the last execution in nanoseconds.
+     */
+    private volatile long lastMaxLatency;
+
+    @SuppressWarnings("unchecked")
+    public ApplicationThreadExecutor() {
+        this.waitTasks = new Queue[PRIORITIES.length];
+        this.queueSize = new AtomicInteger();
+        this.executing = new AtomicBoolean();
+        this.timeBudget = DEFAULT_TIME_BUDGET;
+
+        for (int i = 0; i < waitTasks.length; i++) {
+            waitTasks[i] = new ConcurrentLinkedQueue<>();
+        }
     }
 
     /**
-     * Add the task to execute.
+     * Add the task to execute with {@link TaskPriority#USER} priority.
      *
      * @param task the new task.
      */
     public void addToExecute(@NotNull Runnable task) {
-        waitTasks.runInWriteLock(task, Array::add);
+        addToExecute(task, TaskPriority.USER);
+    }
+
+    /**
+     * Add the task to execute.
+     *
+     * @param task     the new task.
+     * @param priority the priority of the task.
+     */
+    public void addToExecute(@NotNull Runnable task, @NotNull TaskPriority priority) {
+        queueSize.incrementAndGet();
+        waitTasks[priority.ordinal()].offer(new QueuedTask(task, System.nanoTime()));
     }
 
     /**
-     * Execute the waiting tasks.
+     * Get the time budget of executing tasks in one frame.
+     *
+     * @return the time budget in nanoseconds.
+     */
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Set the time budget of executing tasks in one frame, at least one task is executed in every frame.
+     *
+     * @param timeBudget the time budget in nanoseconds or {@link Long#MAX_VALUE} to execute all tasks.
      */
-    public void execute() {
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = Math.max(timeBudget, 0);
+    }
+
+    /**
+     * Get the count of waiting tasks.
+     *
+     * @return the count of waiting tasks.
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
 
-        if (waitTasks.isEmpty()) {
-            return;
+    /**
+     * Checks of having waiting tasks.
+     *
+     * @return true if there are waiting tasks.
+     */
+    public boolean hasTasks() {
+        return queueSize.get() > 0;
+    }
+
+    /**
+     * Get the average time between adding and executing tasks.
+     *
+     * @return the average latency in nanoseconds.
+     */
+    public long getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * Get the max time between adding and executing tasks in the last execution.
+     *
+     * @return the max latency in nanoseconds.
+     */
+    public long getLastMaxLatency() {
+        return lastMaxLatency;
+    }
+
+    /**
+     * Execute the waiting tasks by priorities within the time budget, tasks which are added during executing
+     * are executed next time. If another thread is executing tasks of this executor now, nothing is executed.
+     *
+     * @return true if any task was executed.
+     */
+    public boolean execute() {
+
+        if (queueSize.get() < 1 || !executing.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            return executeImpl();
+        } finally {
+            executing.set(false);
         }
+    }
+
+    private boolean executeImpl() {
+
+        var startTime = System.nanoTime();
+        var timeBudget = this.timeBudget;
+        var averageLatency = this.averageLatency;
+        var maxLatency = 0L;
+        var executed = false;
 
-        waitTasks.runInWriteLock(execute, ArrayUtils::move);
         try {
-            execute.forEach(Runnable::run);
+
+            for (var queue : waitTasks) {
+                for (var queued = queue.peek(); queued != null; queued = queue.peek()) {
+
+                    // at least one task is executed to not stall queues
+                    if (executed && System.nanoTime() - startTime >= timeBudget) {
+                        return true;
+                    } else if (queued.addTime - startTime > 0) {
+                        break;
+                    }
+
+                    queue.poll();
+                    queueSize.decrementAndGet();
+
+                    var latency = startTime - queued.addTime;
+                    maxLatency = Math.max(maxLatency, latency);
+                    averageLatency += (long) ((latency - averageLatency) * LATENCY_SMOOTHING);
+                    executed = true;
+
+                    queued.task.run();
+                }
+            }
+
         } finally {
-            execute.clear();
+            this.averageLatency = averageLatency;
+            this.lastMaxLatency = maxLatency;
         }
+
+        return executed;
     }
 }
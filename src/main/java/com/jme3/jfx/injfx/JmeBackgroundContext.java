@@ -1,5 +1,9 @@
 package com.jme3.jfx.injfx;
 
+import com.jme3.jfx.injfx.throttle.ActivityTracker;
+import com.jme3.jfx.injfx.throttle.DefaultThrottlePolicy;
+import com.jme3.jfx.injfx.throttle.ThrottlePolicy;
+import com.jme3.jfx.util.FrameLimiter;
 import com.jme3.system.AppSettings;
 import com.jme3.system.lwjgl.LwjglOffscreenBuffer;
 import com.jme3.system.lwjgl.LwjglWindow;
@@ -14,9 +18,10 @@ public class JmeBackgroundContext extends LwjglOffscreenBuffer {
 
     private static final Logger LOGGER = Logger.getLogger(JmeBackgroundContext.class.getName());
 
-    private long frameSleepTime;
+    private final FrameLimiter frameLimiter = new FrameLimiter();
+    private final ActivityTracker activityTracker = new ActivityTracker(frameLimiter::wakeUp);
+    private volatile ThrottlePolicy throttlePolicy = new DefaultThrottlePolicy();
     private int frameRateLimit = -1;
-    private long timeLeft;
 
     public JmeBackgroundContext(AppSettings settings) {
         super();
@@ -66,34 +71,65 @@ public class JmeBackgroundContext extends LwjglOffscreenBuffer {
             renderer.postFrame();
         }
 
-        if (autoFlush) {
-            if (frameRateLimit != getSettings().getFrameRate()) {
-                setFrameRateLimit(getSettings().getFrameRate());
-            }
-        } else if (frameRateLimit != 20) {
-            setFrameRateLimit(20);
+        int targetFrameRate = autoFlush ? Math.max(getSettings().getFrameRate(), ThrottlePolicy.UNLIMITED) : 20;
+        int frameRate = throttlePolicy.getFrameRate(activityTracker, targetFrameRate);
+
+        activityTracker.setThrottled(frameRate != targetFrameRate);
+
+        // the suspended loop still executes application tasks
+        if (frameRate == ThrottlePolicy.SUSPENDED) {
+            frameRate = ThrottlePolicy.SUSPENDED_FRAME_RATE;
         }
 
-        if (frameRateLimit > 0) {
-            timeLeft = frameSleepTime - timer.getTime();
-            while (timeLeft > 15) {
-                if (timeLeft > 1500000) {
-                    try {
-                        Thread.sleep(1);
-                    } catch (InterruptedException e) {}
-                } else if (timeLeft > 1500) {
-                    Thread.yield();
-                }
-                timeLeft = frameSleepTime - timer.getTime();
-            }
-            timer.reset();
+        if (frameRateLimit != frameRate) {
+            setFrameRateLimit(frameRate);
         }
 
+        frameLimiter.waitForNextFrame();
+
         glfwPollEvents();
     }
 
     private void setFrameRateLimit(int frameRateLimit) {
         this.frameRateLimit = frameRateLimit;
-        frameSleepTime = Math.round(1000000000.0 / this.frameRateLimit);
+        frameLimiter.setFrameRate(frameRateLimit);
+    }
+
+    /**
+     * Get the limiter of frame rate of this context, it can align frames to JavaFX pulses
+     * and measures times between frames.
+     *
+     * @return the frame limiter.
+     */
+    public FrameLimiter getFrameLimiter() {
+        return frameLimiter;
+    }
+
+    /**
+     * Get the tracker of activity of the JavaFX node which shows frames of this context.
+     *
+     * @return the activity tracker.
+     */
+    public ActivityTracker getActivityTracker() {
+        return activityTracker;
+    }
+
+    /**
+     * Get the policy of throttling the render loop of this context.
+     *
+     * @return the throttle policy.
+     */
+    public ThrottlePolicy getThrottlePolicy() {
+        return throttlePolicy;
+    }
+
+    /**
+     * Set the policy of throttling the render loop of this context.
+     *
+     * @param throttlePolicy the throttle policy or {@link ThrottlePolicy#NONE}.
+     */
+    public void setThrottlePolicy(ThrottlePolicy throttlePolicy) {
+        this.throttlePolicy = throttlePolicy;
+        frameLimiter.wakeUp();
     }
-}
\ No newline at end of file
+}
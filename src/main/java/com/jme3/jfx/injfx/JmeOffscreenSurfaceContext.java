@@ -4,6 +4,10 @@ import com.jme3.input.JoyInput;
 import com.jme3.input.TouchInput;
 import com.jme3.jfx.injfx.input.JfxKeyInput;
 import com.jme3.jfx.injfx.input.JfxMouseInput;
+import com.jme3.jfx.injfx.throttle.ActivityTracker;
+import com.jme3.jfx.injfx.throttle.DefaultThrottlePolicy;
+import com.jme3.jfx.injfx.throttle.ThrottlePolicy;
+import com.jme3.jfx.util.FrameLimiter;
 import com.jme3.opencl.Context;
 import com.jme3.renderer.Renderer;
 import com.jme3.system.*;
@@ -126,6 +130,57 @@ public class JmeOffscreenSurfaceContext implements JmeContext {
         return backgroundContext;
     }
 
+    /**
+     * Gets the frame limiter of the background context.
+     *
+     * @return the frame limiter or null if the background context doesn't limit frame rate.
+     */
+    public @Nullable FrameLimiter getFrameLimiter() {
+        var backgroundContext = getJmeBackgroundContext();
+        return backgroundContext == null ? null : backgroundContext.getFrameLimiter();
+    }
+
+    /**
+     * Gets the tracker of activity of the JavaFX node which shows frames of this context.
+     *
+     * @return the activity tracker or null if the background context doesn't throttle its render loop.
+     */
+    public @Nullable ActivityTracker getActivityTracker() {
+        var backgroundContext = getJmeBackgroundContext();
+        return backgroundContext == null ? null : backgroundContext.getActivityTracker();
+    }
+
+    /**
+     * Gets the policy of throttling the render loop of the background context.
+     *
+     * @return the throttle policy.
+     */
+    public @NotNull ThrottlePolicy getThrottlePolicy() {
+        var backgroundContext = getJmeBackgroundContext();
+        return backgroundContext == null ? ThrottlePolicy.NONE : backgroundContext.getThrottlePolicy();
+    }
+
+    /**
+     * Sets the policy of throttling the render loop of the background context, by default the loop is
+     * suspended while the JavaFX node isn't visible or its window is minimized.
+     *
+     * @param throttlePolicy the throttle policy or {@link ThrottlePolicy#NONE}.
+     * @see DefaultThrottlePolicy
+     */
+    public void setThrottlePolicy(@NotNull ThrottlePolicy throttlePolicy) {
+        ObjectUtils.notNull(getJmeBackgroundContext(), "The background context doesn't support throttling.")
+                .setThrottlePolicy(throttlePolicy);
+    }
+
+    private @Nullable JmeBackgroundContext getJmeBackgroundContext() {
+
+        if (backgroundContext instanceof JmeBackgroundContext) {
+            return (JmeBackgroundContext) backgroundContext;
+        }
+
+        return null;
+    }
+
     @Override
     public @NotNull Type getType() {
         return Type.OffscreenSurface;
@@ -204,7 +259,8 @@ public class JmeOffscreenSurfaceContext implements JmeContext {
 
     @Override
     public void setAutoFlushFrames(boolean enabled) {
-        // TODO Auto-generated method stub
+        ObjectUtils.notNull(getBackgroundContext())
+                .setAutoFlushFrames(enabled);
     }
 
     @Override
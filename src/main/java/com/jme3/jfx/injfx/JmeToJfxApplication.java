@@ -3,10 +3,21 @@ package com.jme3.jfx.injfx;
 import static com.ss.rlib.common.util.ObjectUtils.notNull;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
+import com.jme3.math.Matrix4f;
 import com.jme3.post.FilterPostProcessor;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.ViewPort;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * The base implementation of {@link Application} for using in the JavaFX.
  *
@@ -14,7 +25,35 @@ import org.jetbrains.annotations.Nullable;
  */
 public class JmeToJfxApplication extends SimpleApplication {
 
-    private static final ApplicationThreadExecutor EXECUTOR = ApplicationThreadExecutor.getInstance();
+    /**
+     * The executor of tasks in this application thread.
+     */
+    @NotNull
+    private final ApplicationThreadExecutor executor;
+
+    /**
+     * The count of frames which should be rendered in render on demand mode.
+     */
+    @NotNull
+    private final AtomicInteger requestedFrames;
+
+    /**
+     * The time when a new frame should be rendered in render on demand mode in nanoseconds.
+     */
+    @NotNull
+    private final AtomicLong requestedRenderTime;
+
+    /**
+     * The max count of frames which are needed to transfer a rendered frame to javaFX.
+     */
+    @NotNull
+    private final AtomicInteger frameLatency;
+
+    /**
+     * The view projection matrices of cameras in the last rendered frame.
+     */
+    @NotNull
+    private final Map<Camera, Matrix4f> cameraStates;
 
     /**
      * The post filter processor.
@@ -22,13 +61,257 @@ public class JmeToJfxApplication extends SimpleApplication {
     @Nullable
     protected FilterPostProcessor postProcessor;
 
+    /**
+     * The flag of rendering frames only when something was changed.
+     */
+    private volatile boolean renderOnDemand;
+
+    /**
+     * The time of updating and rendering the last frame in nanoseconds.
+     */
+    private volatile long frameTime;
+
     public JmeToJfxApplication() {
+        this.executor = new ApplicationThreadExecutor();
+        this.requestedFrames = new AtomicInteger(1);
+        this.requestedRenderTime = new AtomicLong(Long.MAX_VALUE);
+        this.frameLatency = new AtomicInteger(0);
+        this.cameraStates = new IdentityHashMap<>();
     }
 
     @Override
     public void update() {
-        EXECUTOR.execute();
+
+        // the shared executor is executed only for old code which still adds tasks to it
+        @SuppressWarnings("deprecation")
+        var hasTasks = executor.execute() | ApplicationThreadExecutor.getInstance().execute();
+
+        if (!renderOnDemand) {
+            updateAndMeasure();
+            return;
+        }
+
+        // tasks and input events from javaFX can change the scene,
+        // tasks which didn't fit the time budget are executed in next frames
+        if (hasTasks || executor.hasTasks() || hasPendingInput()) {
+            requestRender();
+        }
+
+        var renderTime = requestedRenderTime.get();
+
+        if (renderTime != Long.MAX_VALUE && System.nanoTime() - renderTime >= 0 &&
+                requestedRenderTime.compareAndSet(renderTime, Long.MAX_VALUE)) {
+            requestRender(1);
+        }
+
+        var requested = requestedFrames.getAndUpdate(frames -> Math.max(frames - 1, 0));
+
+        if (requested < 1) {
+            // keep time per frame of the next rendered frame in actual state
+            timer.update();
+            return;
+        }
+
+        updateAndMeasure();
+
+        // continue rendering while cameras are moving
+        if (updateCameraStates()) {
+            requestRender();
+        }
+    }
+
+    @Override
+    public <V> Future<V> enqueue(Callable<V> callable) {
+        var future = super.enqueue(callable);
+        // queued tasks are executed only in rendered frames in render on demand mode
+        requestRender();
+        return future;
+    }
+
+    @Override
+    public void enqueue(Runnable runnable) {
+        super.enqueue(runnable);
+        requestRender();
+    }
+
+    /**
+     * Get the executor of tasks in this application thread.
+     *
+     * @return the executor.
+     */
+    public @NotNull ApplicationThreadExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Checks of having input events from javaFX which weren't passed to jME yet.
+     *
+     * @return true if there are pending input events.
+     */
+    private boolean hasPendingInput() {
+
+        if (!(context instanceof JmeOffscreenSurfaceContext)) {
+            return false;
+        }
+
+        var surfaceContext = (JmeOffscreenSurfaceContext) context;
+
+        return surfaceContext.getMouseInput().hasPendingEvents() ||
+                surfaceContext.getKeyInput().hasPendingEvents();
+    }
+
+    /**
+     * Update and render the frame with measuring its time.
+     */
+    private void updateAndMeasure() {
+        var startTime = System.nanoTime();
         super.update();
+        frameTime = System.nanoTime() - startTime;
+    }
+
+    /**
+     * Get the time of updating and rendering the last frame.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getFrameTime() {
+        return frameTime;
+    }
+
+    /**
+     * Update the saved states of cameras of main view ports. States of disabled view ports are kept until they
+     * are enabled again, view ports of {@link ViewPortScheduler} are rendered by its own requests, so their
+     * cameras don't request rendering the whole application.
+     *
+     * @return true if any camera was changed since the last update.
+     */
+    private boolean updateCameraStates() {
+
+        var changed = false;
+        var viewPorts = renderManager.getMainViews();
+        var scheduler = stateManager.getState(ViewPortScheduler.class);
+
+        cameraStates.keySet().removeIf(camera -> !hasViewPort(viewPorts, camera));
+
+        for (var viewPort : viewPorts) {
+
+            if (!viewPort.isEnabled()) {
+                continue;
+            }
+
+            var camera = viewPort.getCamera();
+            var viewProjection = camera.getViewProjectionMatrix();
+            var prevViewProjection = cameraStates.get(camera);
+            var scheduled = scheduler != null && scheduler.isScheduled(viewPort);
+
+            if (prevViewProjection == null) {
+                cameraStates.put(camera, viewProjection.clone());
+                changed |= !scheduled;
+            } else if (!prevViewProjection.equals(viewProjection)) {
+                prevViewProjection.set(viewProjection);
+                changed |= !scheduled;
+            }
+        }
+
+        return changed;
+    }
+
+    private boolean hasViewPort(@NotNull List<ViewPort> viewPorts, @NotNull Camera camera) {
+
+        for (var viewPort : viewPorts) {
+            if (viewPort.getCamera() == camera) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Is this application rendering frames only when something was changed.
+     *
+     * @return true if render on demand mode is enabled.
+     */
+    public boolean isRenderOnDemand() {
+        return renderOnDemand;
+    }
+
+    /**
+     * Set the flag of rendering frames only when something was changed. In this mode, frames are rendered
+     * only after {@link #requestRender()}, executing tasks from javaFX (including input events), enqueuing tasks
+     * by {@link #enqueue(Callable)} or moving cameras. App states and controls aren't updated while no frames
+     * are rendered, so continuous animations should request rendering themselves.
+     *
+     * @param renderOnDemand true if render on demand mode should be enabled.
+     */
+    public void setRenderOnDemand(boolean renderOnDemand) {
+        this.renderOnDemand = renderOnDemand;
+        requestRender();
+    }
+
+    /**
+     * Request rendering new frames in render on demand mode, can be called from any thread.
+     * It requests enough frames to transfer the changes to javaFX.
+     */
+    public void requestRender() {
+        requestRender(frameLatency.get() + 1);
+    }
+
+    /**
+     * Request rendering the count of new frames in render on demand mode, can be called from any thread.
+     *
+     * @param frames the count of frames.
+     */
+    public void requestRender(int frames) {
+        requestedFrames.accumulateAndGet(frames, Math::max);
+    }
+
+    /**
+     * Request rendering a new frame at the time in render on demand mode, can be called from any thread.
+     * If several times are requested, the frame is rendered at the earliest one.
+     *
+     * @param time the time in nanoseconds of {@link System#nanoTime()}.
+     */
+    public void requestRenderAt(long time) {
+        requestedRenderTime.accumulateAndGet(time, Math::min);
+    }
+
+    /**
+     * Register the count of frames which are needed to transfer a rendered frame to javaFX.
+     *
+     * @param frameLatency the count of frames.
+     */
+    public void registerFrameLatency(int frameLatency) {
+        this.frameLatency.accumulateAndGet(frameLatency, Math::max);
+    }
+
+    /**
+     * Get the max count of frames which are needed to transfer a rendered frame to javaFX.
+     *
+     * @return the count of frames.
+     */
+    public int getFrameLatency() {
+        return frameLatency.get();
+    }
+
+    /**
+     * Create a new main view port which renders the root node by a copy of the main camera, it can be shown
+     * in another javaFX node by a not main frame transfer processor. Should be called in jME thread.
+     *
+     * @param name the name of the view port.
+     * @return the new view port.
+     */
+    public @NotNull ViewPort createSecondaryViewPort(@NotNull String name) {
+
+        var camera = cam.clone();
+        camera.setName(name);
+
+        var viewPort = renderManager.createMainView(name, camera);
+        viewPort.setClearFlags(true, true, true);
+        viewPort.setBackgroundColor(this.viewPort.getBackgroundColor());
+        viewPort.attachScene(rootNode);
+
+        return viewPort;
     }
 
     @Override
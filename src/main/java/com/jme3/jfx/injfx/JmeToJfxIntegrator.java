@@ -1,10 +1,13 @@
 package com.jme3.jfx.injfx;
 
+import com.jme3.jfx.injfx.ApplicationThreadExecutor.TaskPriority;
 import com.jme3.jfx.injfx.processor.CanvasFrameTransferSceneProcessor;
 import com.jme3.jfx.injfx.processor.FrameTransferSceneProcessor;
 import com.jme3.jfx.injfx.processor.ImageViewFrameTransferSceneProcessor;
 import com.jme3.renderer.ViewPort;
 import com.jme3.system.AppSettings;
+import com.ss.rlib.logger.api.Logger;
+import com.ss.rlib.logger.api.LoggerManager;
 import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
@@ -12,6 +15,10 @@ import javafx.scene.image.ImageView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 /**
@@ -21,7 +28,13 @@ import java.util.function.Function;
  */
 public class JmeToJfxIntegrator {
 
-    private static final ApplicationThreadExecutor EXECUTOR = ApplicationThreadExecutor.getInstance();
+    private static final Logger LOGGER = LoggerManager.getLogger(JmeToJfxIntegrator.class);
+
+
+    /**
+     * The default timeout of destroying an application in milliseconds.
+     */
+    public static final long DEFAULT_DESTROY_TIMEOUT = 10_000;
 
     /**
      * Prepare settings.
@@ -84,8 +97,9 @@ public class JmeToJfxIntegrator {
         var processor = new ImageViewFrameTransferSceneProcessor();
         processor.setTransferMode(transferMode);
 
-        EXECUTOR.addToExecute(() ->
-                processor.bind(imageView, application, application.getViewPort(), application.getGuiViewPort()));
+        application.getExecutor().addToExecute(() ->
+                processor.bind(imageView, application, application.getViewPort(), application.getGuiViewPort()),
+                TaskPriority.LIFECYCLE);
 
         return processor;
     }
@@ -139,12 +153,134 @@ public class JmeToJfxIntegrator {
         var processor = new CanvasFrameTransferSceneProcessor();
         processor.setTransferMode(transferMode);
 
-        EXECUTOR.addToExecute(() ->
-                processor.bind(canvas, application, application.getViewPort(), application.getGuiViewPort()));
+        application.getExecutor().addToExecute(() ->
+                processor.bind(canvas, application, application.getViewPort(), application.getGuiViewPort()),
+                TaskPriority.LIFECYCLE);
+
+        return processor;
+    }
+
+    /**
+     * Create a secondary view port of the started application and bind not main frame transfer scene processor
+     * to it, so the image view shows another camera of the same scene from the same GL context. The view port
+     * can be got by {@link com.jme3.renderer.RenderManager#getMainView(String)}, it's scheduled by
+     * {@link ViewPortScheduler} if the application has it.
+     *
+     * @param application  the application
+     * @param imageView    the image view
+     * @param name         the name of the view port
+     * @param transferMode the transferMode
+     * @return the frame transfer scene processor
+     */
+    public static @NotNull FrameTransferSceneProcessor bindSecondaryViewPort(
+            @NotNull JmeToJfxApplication application,
+            @NotNull ImageView imageView,
+            @NotNull String name,
+            @NotNull FrameTransferSceneProcessor.TransferMode transferMode
+    ) {
+
+        var processor = new ImageViewFrameTransferSceneProcessor();
+        processor.setTransferMode(transferMode);
+
+        application.getExecutor().addToExecute(() -> {
+            var viewPort = createSecondaryViewPort(application, name);
+            processor.bind(imageView, application, imageView, viewPort, null, false);
+        }, TaskPriority.LIFECYCLE);
+
+        return processor;
+    }
+
+    /**
+     * Create a secondary view port of the started application and bind not main frame transfer scene processor
+     * to it, so the canvas shows another camera of the same scene from the same GL context. The view port
+     * can be got by {@link com.jme3.renderer.RenderManager#getMainView(String)}, it's scheduled by
+     * {@link ViewPortScheduler} if the application has it.
+     *
+     * @param application  the application
+     * @param canvas       the canvas
+     * @param name         the name of the view port
+     * @param transferMode the transferMode
+     * @return the frame transfer scene processor
+     */
+    public static @NotNull FrameTransferSceneProcessor bindSecondaryViewPort(
+            @NotNull JmeToJfxApplication application,
+            @NotNull Canvas canvas,
+            @NotNull String name,
+            @NotNull FrameTransferSceneProcessor.TransferMode transferMode
+    ) {
+
+        var processor = new CanvasFrameTransferSceneProcessor();
+        processor.setTransferMode(transferMode);
+
+        application.getExecutor().addToExecute(() -> {
+            var viewPort = createSecondaryViewPort(application, name);
+            processor.bind(canvas, application, canvas, viewPort, null, false);
+        }, TaskPriority.LIFECYCLE);
 
         return processor;
     }
 
+    /**
+     * Unbind the processor from the secondary view port and remove the view port, the application keeps working.
+     *
+     * @param application the application
+     * @param processor   the processor which was bound by bindSecondaryViewPort
+     * @param name        the name of the view port
+     * @return the future which is completed when all resources of the processor are released
+     */
+    public static @NotNull CompletableFuture<Void> unbindSecondaryViewPort(
+            @NotNull JmeToJfxApplication application,
+            @NotNull FrameTransferSceneProcessor processor,
+            @NotNull String name
+    ) {
+
+        var cleanup = new CompletableFuture<CompletableFuture<Void>>();
+
+        application.getExecutor().addToExecute(() -> {
+            try {
+
+                var renderManager = application.getRenderManager();
+                var viewPort = renderManager.getMainView(name);
+                var scheduler = application.getStateManager().getState(ViewPortScheduler.class);
+
+                if (viewPort != null) {
+
+                    if (scheduler != null) {
+                        scheduler.unschedule(viewPort);
+                    }
+
+                    renderManager.removeMainView(viewPort);
+                }
+
+                // removing the processor from its view port cleans it up too, but loses the future of disposing
+                var future = processor.cleanupAsync();
+                processor.unbind();
+                cleanup.complete(future);
+
+            } catch (RuntimeException e) {
+                cleanup.completeExceptionally(e);
+                throw e;
+            }
+        }, TaskPriority.LIFECYCLE);
+
+        return cleanup.thenCompose(Function.identity());
+    }
+
+    private static @NotNull ViewPort createSecondaryViewPort(
+            @NotNull JmeToJfxApplication application,
+            @NotNull String name
+    ) {
+
+        var viewPort = application.createSecondaryViewPort(name);
+        var scheduler = application.getStateManager().getState(ViewPortScheduler.class);
+
+        if (scheduler != null) {
+            scheduler.schedule(viewPort);
+        }
+
+        return viewPort;
+    }
+
     /**
      * Bind frame transfer scene processor.
      *
@@ -413,16 +549,78 @@ public class JmeToJfxIntegrator {
      * @param application the application
      * @param processor   the processor
      */
-
     public static void destroy(
             @NotNull JmeToJfxApplication application,
             @NotNull FrameTransferSceneProcessor processor
     ) {
+        destroy(application, processor, DEFAULT_DESTROY_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
 
-        EXECUTOR.addToExecute(() -> processor.cleanup());
-        while (processor.isInitialized()) {
-                Thread.yield();
+    /**
+     * Cleanup processor and stop application, waits for finishing it not longer than the timeout.
+     * Releasing resources of the processor needs JavaFX thread, so it doesn't wait in JavaFX thread
+     * and the application is stopped asynchronously.
+     *
+     * @param application the application
+     * @param processor   the processor
+     * @param timeout     the timeout
+     * @param unit        the unit of the timeout
+     * @return true if the application was stopped in the timeout
+     */
+    public static boolean destroy(
+            @NotNull JmeToJfxApplication application,
+            @NotNull FrameTransferSceneProcessor processor,
+            long timeout,
+            @NotNull TimeUnit unit
+    ) {
+
+        var future = destroyAsync(application, processor);
+
+        // the future is completed by a JavaFX task, so waiting here would block it
+        if (Platform.isFxApplicationThread()) {
+            return future.isDone();
+        }
+
+        try {
+            future.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            LOGGER.warning("The application wasn't stopped in " + timeout + " " + unit);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
-        application.stop(true);
+    }
+
+    /**
+     * Cleanup processor in the application thread and stop application after releasing all resources
+     * of the processor.
+     *
+     * @param application the application
+     * @param processor   the processor
+     * @return the future which is completed when the application is stopped
+     */
+    public static @NotNull CompletableFuture<Void> destroyAsync(
+            @NotNull JmeToJfxApplication application,
+            @NotNull FrameTransferSceneProcessor processor
+    ) {
+
+        var cleanup = new CompletableFuture<CompletableFuture<Void>>();
+
+        application.getExecutor().addToExecute(() -> {
+            try {
+                cleanup.complete(processor.cleanupAsync());
+            } catch (RuntimeException e) {
+                cleanup.completeExceptionally(e);
+                throw e;
+            }
+        }, TaskPriority.LIFECYCLE);
+
+        // stopping waits for the application thread, so it's done outside it
+        return cleanup.thenCompose(Function.identity())
+                .thenRunAsync(() -> application.stop(true));
     }
 }
@@ -0,0 +1,359 @@
+package com.jme3.jfx.injfx;
+
+import com.jme3.app.Application;
+import com.jme3.app.state.AbstractAppState;
+import com.jme3.app.state.AppStateManager;
+import com.jme3.jfx.injfx.processor.FrameTransferSceneProcessor;
+import com.jme3.math.Matrix4f;
+import com.jme3.renderer.ViewPort;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The scheduler of rendering view ports of one {@link JmeToJfxApplication}, it allows to show several view ports
+ * in different javaFX nodes from one GL context with shared GPU resources. Every scheduled view port is rendered
+ * with its own max frame rate and optionally only on demand: when it was requested or its camera was moved.
+ * <p>
+ * The scheduler enables and disables scheduled view ports before every frame, so they shouldn't be enabled
+ * manually. Frame transfer processors of disabled view ports don't get their frames, so the scheduler writes
+ * frames which transfers were finished after the last rendered frame itself. Settings can be changed from any thread.
+ *
+ * @author JavaSaBr
+ */
+public class ViewPortScheduler extends AbstractAppState {
+
+    /**
+     * The schedule of a view port.
+     */
+    private static final class Schedule {
+
+        /**
+         * The scheduled view port.
+         */
+        @NotNull
+        private final ViewPort viewPort;
+
+        /**
+         * The view port which is rendered together with the scheduled view port.
+         */
+        @Nullable
+        private final ViewPort linkedViewPort;
+
+        /**
+         * The count of frames which should be rendered in render on demand mode.
+         */
+        @NotNull
+        private final AtomicInteger requestedFrames;
+
+        /**
+         * The view projection matrix of the camera in the last rendered frame.
+         */
+        @Nullable
+        private Matrix4f viewProjection;
+
+        /**
+         * The min time between frames in nanoseconds.
+         */
+        private volatile long frameInterval;
+
+        /**
+         * The flag of rendering frames only when something was changed.
+         */
+        private volatile boolean renderOnDemand;
+
+        /**
+         * The time of the last rendered frame in nanoseconds.
+         */
+        private long lastRenderTime;
+
+        private Schedule(@NotNull ViewPort viewPort, @Nullable ViewPort linkedViewPort) {
+            this.viewPort = viewPort;
+            this.linkedViewPort = linkedViewPort;
+            this.requestedFrames = new AtomicInteger(1);
+        }
+
+        private void setEnabled(boolean enabled) {
+
+            viewPort.setEnabled(enabled);
+
+            if (linkedViewPort != null) {
+                linkedViewPort.setEnabled(enabled);
+            }
+        }
+
+        /**
+         * Write to javaFX the frames which transfers were finished while the view port isn't rendered.
+         *
+         * @return true if there are still unfinished transfers.
+         */
+        private boolean copyFinishedTransfers() {
+
+            var pending = copyFinishedTransfers(viewPort);
+
+            if (linkedViewPort != null) {
+                pending |= copyFinishedTransfers(linkedViewPort);
+            }
+
+            return pending;
+        }
+
+        private boolean copyFinishedTransfers(@NotNull ViewPort viewPort) {
+
+            var pending = false;
+
+            for (var processor : viewPort.getProcessors()) {
+                if (processor instanceof FrameTransferSceneProcessor) {
+                    pending |= ((FrameTransferSceneProcessor) processor).copyFinishedTransfers();
+                }
+            }
+
+            return pending;
+        }
+
+        /**
+         * Checks of changing the camera since the last rendered frame.
+         *
+         * @return true if the camera was changed.
+         */
+        private boolean isCameraChanged() {
+            var current = viewPort.getCamera().getViewProjectionMatrix();
+            return viewProjection == null || !viewProjection.equals(current);
+        }
+
+        private void saveCamera() {
+
+            var current = viewPort.getCamera().getViewProjectionMatrix();
+
+            if (viewProjection == null) {
+                viewProjection = current.clone();
+            } else {
+                viewProjection.set(current);
+            }
+        }
+    }
+
+    /**
+     * The schedules of view ports.
+     */
+    @NotNull
+    private final Map<ViewPort, Schedule> schedules;
+
+    /**
+     * The application.
+     */
+    @Nullable
+    private volatile JmeToJfxApplication application;
+
+    public ViewPortScheduler() {
+        this.schedules = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void initialize(@NotNull AppStateManager stateManager, @NotNull Application app) {
+        super.initialize(stateManager, app);
+        this.application = (JmeToJfxApplication) app;
+    }
+
+    /**
+     * Schedule rendering the view port.
+     *
+     * @param viewPort the view port.
+     */
+    public void schedule(@NotNull ViewPort viewPort) {
+        schedule(viewPort, null);
+    }
+
+    /**
+     * Schedule rendering the view port together with the linked view port, for example the gui view port which
+     * is rendered to the same frame buffer.
+     *
+     * @param viewPort       the view port.
+     * @param linkedViewPort the linked view port or null.
+     */
+    public void schedule(@NotNull ViewPort viewPort, @Nullable ViewPort linkedViewPort) {
+        schedules.putIfAbsent(viewPort, new Schedule(viewPort, linkedViewPort));
+        requestApplicationRender();
+    }
+
+    /**
+     * Stop scheduling the view port and enable it back.
+     *
+     * @param viewPort the view port.
+     */
+    public void unschedule(@NotNull ViewPort viewPort) {
+
+        var schedule = schedules.remove(viewPort);
+
+        if (schedule != null) {
+            schedule.setEnabled(true);
+        }
+    }
+
+    /**
+     * Checks of scheduling the view port.
+     *
+     * @param viewPort the view port.
+     * @return true if the view port is scheduled.
+     */
+    public boolean isScheduled(@NotNull ViewPort viewPort) {
+        return schedules.containsKey(viewPort);
+    }
+
+    /**
+     * Set the max frame rate of the scheduled view port.
+     *
+     * @param viewPort  the view port.
+     * @param frameRate the max count of frames per second or 0 to render it in every frame.
+     */
+    public void setFrameRate(@NotNull ViewPort viewPort, int frameRate) {
+        getSchedule(viewPort).frameInterval = frameRate > 0 ? Math.round(1_000_000_000.0 / frameRate) : 0;
+    }
+
+    /**
+     * Set the flag of rendering the scheduled view port only when it was requested by {@link #requestRender(ViewPort)}
+     * or its camera was moved.
+     *
+     * @param viewPort       the view port.
+     * @param renderOnDemand true if render on demand mode should be enabled.
+     */
+    public void setRenderOnDemand(@NotNull ViewPort viewPort, boolean renderOnDemand) {
+        getSchedule(viewPort).renderOnDemand = renderOnDemand;
+        requestRender(viewPort);
+    }
+
+    /**
+     * Request rendering new frames of the view port, can be called from any thread. It requests enough frames
+     * to transfer the changes to javaFX.
+     *
+     * @param viewPort the view port.
+     */
+    public void requestRender(@NotNull ViewPort viewPort) {
+
+        var schedule = schedules.get(viewPort);
+
+        if (schedule == null) {
+            return;
+        }
+
+        var application = this.application;
+        var frames = application == null ? 1 : application.getFrameLatency() + 1;
+
+        schedule.requestedFrames.accumulateAndGet(frames, Math::max);
+
+        requestApplicationRender();
+    }
+
+    /**
+     * Request rendering new frames of all scheduled view ports, can be called from any thread.
+     */
+    public void requestRender() {
+        for (var viewPort : schedules.keySet()) {
+            requestRender(viewPort);
+        }
+    }
+
+    @Override
+    public void update(float tpf) {
+
+        var now = System.nanoTime();
+        var pending = false;
+        var nextRenderTime = 0L;
+
+        for (var schedule : schedules.values()) {
+
+            var needed = !schedule.renderOnDemand || schedule.requestedFrames.get() > 0 || schedule.isCameraChanged();
+            var due = now - schedule.lastRenderTime >= schedule.frameInterval;
+
+            if (needed && due) {
+                schedule.setEnabled(true);
+                schedule.saveCamera();
+                schedule.lastRenderTime = now;
+                schedule.requestedFrames.getAndUpdate(frames -> Math.max(frames - 1, 0));
+                needed = !schedule.renderOnDemand || schedule.requestedFrames.get() > 0;
+            } else {
+                schedule.setEnabled(false);
+
+                // GPU finishes transfers in next frames, so they are checked until all of them are written
+                if (schedule.copyFinishedTransfers()) {
+                    nextRenderTime = pending && nextRenderTime - now < 0 ? nextRenderTime : now;
+                    pending = true;
+                }
+            }
+
+            if (!needed) {
+                continue;
+            }
+
+            var renderTime = schedule.lastRenderTime + schedule.frameInterval;
+
+            if (!pending || renderTime - nextRenderTime < 0) {
+                nextRenderTime = renderTime;
+            }
+
+            pending = true;
+        }
+
+        // view ports which wait for their time are rendered when the earliest of them is due,
+        // so other frames aren't rendered back to back in render on demand mode
+        if (pending) {
+            requestApplicationRender(nextRenderTime);
+        }
+    }
+
+    @Override
+    public void postRender() {
+
+        // cameras can be moved after updating this state
+        for (var schedule : schedules.values()) {
+            if (schedule.renderOnDemand && schedule.isCameraChanged()) {
+                requestApplicationRender();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        super.cleanup();
+
+        for (var schedule : schedules.values()) {
+            schedule.setEnabled(true);
+        }
+
+        schedules.clear();
+        application = null;
+    }
+
+    private void requestApplicationRender() {
+
+        var application = this.application;
+
+        if (application != null) {
+            application.requestRender(1);
+        }
+    }
+
+    private void requestApplicationRender(long time) {
+
+        var application = this.application;
+
+        if (application != null) {
+            application.requestRenderAt(time);
+        }
+    }
+
+    private @NotNull Schedule getSchedule(@NotNull ViewPort viewPort) {
+
+        var schedule = schedules.get(viewPort);
+
+        if (schedule == null) {
+            throw new IllegalArgumentException("The view port " + viewPort.getName() + " isn't scheduled.");
+        }
+
+        return schedule;
+    }
+}
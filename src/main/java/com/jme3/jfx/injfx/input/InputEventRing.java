@@ -0,0 +1,243 @@
+package com.jme3.jfx.injfx.input;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The single-producer/single-consumer ring of input events which are stored as records of primitive fields,
+ * so passing events from javaFX thread to jME thread doesn't allocate objects and doesn't lock.
+ * <p>
+ * The producer claims a record, fills its fields and publishes it, the consumer peeks the oldest published
+ * record, reads its fields and releases it. If the ring is full, new records are copied to an overflow queue
+ * until the consumer drains it, so records are never lost and keep their order.
+ *
+ * @author JavaSaBr
+ */
+public class InputEventRing {
+
+    /**
+     * The fields of records.
+     */
+    @NotNull
+    private final int[] fields;
+
+    /**
+     * The times of records.
+     */
+    @NotNull
+    private final long[] times;
+
+    /**
+     * The records which didn't fit the ring.
+     */
+    @NotNull
+    private final Queue<OverflowRecord> overflow;
+
+    /**
+     * The sequence of the next record to publish.
+     */
+    @NotNull
+    private final AtomicLong tail;
+
+    /**
+     * The sequence of the next record to consume.
+     */
+    @NotNull
+    private final AtomicLong head;
+
+    /**
+     * The count of fields of a record.
+     */
+    private final int recordSize;
+
+    /**
+     * The mask of record indexes.
+     */
+    private final int mask;
+
+    /**
+     * The index of the record which is filled by the producer before copying it to the overflow queue.
+     */
+    private final int producerOverflowRecord;
+
+    /**
+     * The index of the record which is copied from the overflow queue to be read by the consumer.
+     */
+    private final int consumerOverflowRecord;
+
+    /**
+     * The record which was claimed by the producer.
+     */
+    private int claimedRecord;
+
+    /**
+     * The flag of peeking the record from the overflow queue by the consumer.
+     */
+    private boolean peekedOverflow;
+
+    /**
+     * The record which didn't fit the ring.
+     */
+    private static final class OverflowRecord {
+
+        @NotNull
+        private final int[] fields;
+
+        private final long time;
+
+        private OverflowRecord(@NotNull int[] fields, long time) {
+            this.fields = fields;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Create a new ring.
+     *
+     * @param capacity   the min count of records, is rounded up to a power of two.
+     * @param recordSize the count of int fields of a record.
+     */
+    public InputEventRing(int capacity, int recordSize) {
+
+        var size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+
+        this.recordSize = recordSize;
+        this.mask = size - 1;
+        this.producerOverflowRecord = size;
+        this.consumerOverflowRecord = size + 1;
+        this.fields = new int[(size + 2) * recordSize];
+        this.times = new long[size + 2];
+        this.overflow = new ConcurrentLinkedQueue<>();
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+    }
+
+    /**
+     * Claim a new record, should be called only by the producer.
+     *
+     * @return the index of the record.
+     */
+    public int claim() {
+
+        var sequence = tail.get();
+
+        // records go to the overflow queue until it's drained to keep their order
+        if (sequence - head.get() > mask || !overflow.isEmpty()) {
+            claimedRecord = producerOverflowRecord;
+        } else {
+            claimedRecord = (int) sequence & mask;
+        }
+
+        return claimedRecord;
+    }
+
+    /**
+     * Set the field of the claimed record, should be called only by the producer.
+     *
+     * @param record the index of the record.
+     * @param field  the index of the field.
+     * @param value  the value.
+     */
+    public void setField(int record, int field, int value) {
+        fields[record * recordSize + field] = value;
+    }
+
+    /**
+     * Set the time of the claimed record, should be called only by the producer.
+     *
+     * @param record the index of the record.
+     * @param time   the time in nanoseconds.
+     */
+    public void setTime(int record, long time) {
+        times[record] = time;
+    }
+
+    /**
+     * Publish the claimed record to the consumer, should be called only by the producer.
+     */
+    public void publish() {
+
+        if (claimedRecord != producerOverflowRecord) {
+            tail.lazySet(tail.get() + 1);
+            return;
+        }
+
+        var offset = producerOverflowRecord * recordSize;
+        var copy = Arrays.copyOfRange(fields, offset, offset + recordSize);
+
+        overflow.offer(new OverflowRecord(copy, times[producerOverflowRecord]));
+    }
+
+    /**
+     * Checks of having published records.
+     *
+     * @return true if there are records to consume.
+     */
+    public boolean hasRecords() {
+        return head.get() != tail.get() || !overflow.isEmpty();
+    }
+
+    /**
+     * Peek the oldest published record, should be called only by the consumer.
+     *
+     * @return the index of the record or -1 if there are no records.
+     */
+    public int peek() {
+
+        var sequence = head.get();
+
+        if (sequence != tail.get()) {
+            peekedOverflow = false;
+            return (int) sequence & mask;
+        }
+
+        var record = overflow.peek();
+
+        if (record == null) {
+            return -1;
+        }
+
+        System.arraycopy(record.fields, 0, fields, consumerOverflowRecord * recordSize, recordSize);
+        times[consumerOverflowRecord] = record.time;
+        peekedOverflow = true;
+
+        return consumerOverflowRecord;
+    }
+
+    /**
+     * Get the field of the peeked record, should be called only by the consumer.
+     *
+     * @param record the index of the record.
+     * @param field  the index of the field.
+     * @return the value.
+     */
+    public int getField(int record, int field) {
+        return fields[record * recordSize + field];
+    }
+
+    /**
+     * Get the time of the peeked record, should be called only by the consumer.
+     *
+     * @param record the index of the record.
+     * @return the time in nanoseconds.
+     */
+    public long getTime(int record) {
+        return times[record];
+    }
+
+    /**
+     * Release the peeked record to reuse it by the producer, should be called only by the consumer.
+     */
+    public void release() {
+        if (peekedOverflow) {
+            overflow.poll();
+            peekedOverflow = false;
+        } else {
+            head.lazySet(head.get() + 1);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.jme3.jfx.injfx.input;
 import static com.ss.rlib.common.util.ObjectUtils.notNull;
 import com.jme3.input.Input;
 import com.jme3.input.RawInputListener;
-import com.jme3.jfx.injfx.ApplicationThreadExecutor;
 import com.jme3.jfx.injfx.JmeOffscreenSurfaceContext;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -17,8 +16,6 @@ import org.jetbrains.annotations.Nullable;
  */
 public class JfxInput implements Input {
 
-    protected static final ApplicationThreadExecutor EXECUTOR = ApplicationThreadExecutor.getInstance();
-
     /**
      * The context.
      */
@@ -122,6 +119,27 @@ public class JfxInput implements Input {
     protected void updateImpl() {
     }
 
+    /**
+     * Checks of having input events which weren't passed to jME yet.
+     *
+     * @return true if there are pending input events.
+     */
+    public boolean hasPendingEvents() {
+        return false;
+    }
+
+    /**
+     * Notify the context about new input to restore frame rate of its render loop.
+     */
+    protected void notifyActivity() {
+
+        var activityTracker = context.getActivityTracker();
+
+        if (activityTracker != null) {
+            activityTracker.notifyInput();
+        }
+    }
+
     @Override
     public void destroy() {
         unbind();
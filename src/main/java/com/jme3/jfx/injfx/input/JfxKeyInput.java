@@ -1,10 +1,8 @@
 package com.jme3.jfx.injfx.input;
 
-import static com.ss.rlib.common.util.linkedlist.LinkedListFactory.newLinkedList;
 import com.jme3.input.KeyInput;
 import com.jme3.input.event.KeyInputEvent;
 import com.jme3.jfx.injfx.JmeOffscreenSurfaceContext;
-import com.ss.rlib.common.util.linkedlist.LinkedList;
 import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.image.ImageView;
@@ -24,6 +22,16 @@ public class JfxKeyInput extends JfxInput implements KeyInput {
 
     private static final Map<KeyCode, Integer> KEY_CODE_TO_JME = new HashMap<>();
 
+    /**
+     * The max count of key events between updates of jME input.
+     */
+    private static final int EVENT_CAPACITY = 256;
+
+    private static final int FIELD_CODE = 0;
+    private static final int FIELD_CHAR = 1;
+    private static final int FIELD_PRESSED = 2;
+    private static final int RECORD_SIZE = 3;
+
     static {
         KEY_CODE_TO_JME.put(KeyCode.ESCAPE, KEY_ESCAPE);
         KEY_CODE_TO_JME.put(KeyCode.DIGIT0, KEY_0);
@@ -141,12 +149,15 @@ public class JfxKeyInput extends JfxInput implements KeyInput {
     @NotNull
     private final EventHandler<KeyEvent> processKeyReleased = this::processKeyReleased;
 
+    /**
+     * The key events from javaFX thread to jME thread.
+     */
     @NotNull
-    private final LinkedList<KeyInputEvent> keyInputEvents;
+    private final InputEventRing keyEvents;
 
     public JfxKeyInput(@NotNull JmeOffscreenSurfaceContext context) {
         super(context);
-        this.keyInputEvents = newLinkedList(KeyInputEvent.class);
+        this.keyEvents = new InputEventRing(EVENT_CAPACITY, RECORD_SIZE);
     }
 
     @Override
@@ -182,17 +193,36 @@ public class JfxKeyInput extends JfxInput implements KeyInput {
         var character = keyEvent.getText();
         var keyChar = character.isEmpty() ? '\0' : character.charAt(0);
 
-        var event = new KeyInputEvent(code, keyChar, pressed, false);
-        event.setTime(getInputTimeNanos());
+        var record = keyEvents.claim();
+
+        keyEvents.setField(record, FIELD_CODE, code);
+        keyEvents.setField(record, FIELD_CHAR, keyChar);
+        keyEvents.setField(record, FIELD_PRESSED, pressed ? 1 : 0);
+        keyEvents.setTime(record, getInputTimeNanos());
+        keyEvents.publish();
+
+        notifyActivity();
+    }
 
-        EXECUTOR.addToExecute(() -> keyInputEvents.add(event));
+    @Override
+    public boolean hasPendingEvents() {
+        return keyEvents.hasRecords();
     }
 
     @Override
     protected void updateImpl() {
+
         var listener = getListener();
-        while (!keyInputEvents.isEmpty()) {
-            listener.onKeyEvent(keyInputEvents.poll());
+
+        for (var record = keyEvents.peek(); record != -1; record = keyEvents.peek()) {
+
+            var event = new KeyInputEvent(keyEvents.getField(record, FIELD_CODE),
+                    (char) keyEvents.getField(record, FIELD_CHAR), keyEvents.getField(record, FIELD_PRESSED) != 0,
+                    false);
+            event.setTime(keyEvents.getTime(record));
+
+            keyEvents.release();
+            listener.onKeyEvent(event);
         }
     }
 
@@ -1,12 +1,10 @@
 package com.jme3.jfx.injfx.input;
 
-import static com.ss.rlib.common.util.linkedlist.LinkedListFactory.newLinkedList;
 import com.jme3.cursors.plugins.JmeCursor;
 import com.jme3.input.MouseInput;
 import com.jme3.input.event.MouseButtonEvent;
 import com.jme3.input.event.MouseMotionEvent;
 import com.jme3.jfx.injfx.JmeOffscreenSurfaceContext;
-import com.ss.rlib.common.util.linkedlist.LinkedList;
 import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
@@ -43,6 +41,25 @@ public class JfxMouseInput extends JfxInput implements MouseInput {
      */
     private static final int WHEEL_SCALE = 10;
 
+    /**
+     * The max count of mouse events between updates of jME input.
+     */
+    private static final int EVENT_CAPACITY = 1024;
+
+    private static final int EVENT_MOTION = 0;
+    private static final int EVENT_BUTTON = 1;
+
+    private static final int FIELD_TYPE = 0;
+    private static final int FIELD_X = 1;
+    private static final int FIELD_Y = 2;
+    private static final int FIELD_DX = 3;
+    private static final int FIELD_DY = 4;
+    private static final int FIELD_WHEEL = 5;
+    private static final int FIELD_DELTA_WHEEL = 6;
+    private static final int FIELD_BUTTON = 5;
+    private static final int FIELD_PRESSED = 6;
+    private static final int RECORD_SIZE = 7;
+
     @NotNull
     private final EventHandler<MouseEvent> processMotion = this::processMotion;
 
@@ -55,23 +72,42 @@ public class JfxMouseInput extends JfxInput implements MouseInput {
     @NotNull
     private final EventHandler<ScrollEvent> processScroll = this::processScroll;
 
+    /**
+     * The mouse events from javaFX thread to jME thread.
+     */
     @NotNull
-    private final LinkedList<MouseMotionEvent> mouseMotionEvents;
-
-    @NotNull
-    private final LinkedList<MouseButtonEvent> mouseButtonEvents;
+    private final InputEventRing mouseEvents;
 
     private int mouseX;
     private int mouseY;
     private int mouseWheel;
 
+    /**
+     * The scales of coordinates from the node to the frame buffer.
+     */
+    private volatile float coordinateScaleX;
+    private volatile float coordinateScaleY;
+
     private boolean useGlobalCoords;
     private boolean inverseYCoord;
 
     public JfxMouseInput(@NotNull JmeOffscreenSurfaceContext context) {
         super(context);
-        this.mouseMotionEvents = newLinkedList(MouseMotionEvent.class);
-        this.mouseButtonEvents = newLinkedList(MouseButtonEvent.class);
+        this.mouseEvents = new InputEventRing(EVENT_CAPACITY, RECORD_SIZE);
+        this.coordinateScaleX = 1F;
+        this.coordinateScaleY = 1F;
+    }
+
+    /**
+     * Set the scales of coordinates from the node to the frame buffer, it's used when the frame buffer has
+     * another size than the node.
+     *
+     * @param coordinateScaleX the scale of X coordinate.
+     * @param coordinateScaleY the scale of Y coordinate.
+     */
+    public void setCoordinateScale(float coordinateScaleX, float coordinateScaleY) {
+        this.coordinateScaleX = coordinateScaleX;
+        this.coordinateScaleY = coordinateScaleY;
     }
 
     @Override
@@ -105,17 +141,40 @@ public class JfxMouseInput extends JfxInput implements MouseInput {
         super.unbind();
     }
 
+    @Override
+    public boolean hasPendingEvents() {
+        return mouseEvents.hasRecords();
+    }
+
     @Override
     protected void updateImpl() {
 
         var listener = getListener();
 
-        while (!mouseMotionEvents.isEmpty()) {
-            listener.onMouseMotionEvent(mouseMotionEvents.poll());
-        }
+        for (var record = mouseEvents.peek(); record != -1; record = mouseEvents.peek()) {
+
+            var x = mouseEvents.getField(record, FIELD_X);
+            var y = mouseEvents.getField(record, FIELD_Y);
+
+            if (mouseEvents.getField(record, FIELD_TYPE) == EVENT_MOTION) {
+
+                var event = new MouseMotionEvent(x, y, mouseEvents.getField(record, FIELD_DX),
+                        mouseEvents.getField(record, FIELD_DY), mouseEvents.getField(record, FIELD_WHEEL),
+                        mouseEvents.getField(record, FIELD_DELTA_WHEEL));
+                event.setTime(mouseEvents.getTime(record));
 
-        while (!mouseButtonEvents.isEmpty()) {
-            listener.onMouseButtonEvent(mouseButtonEvents.poll());
+                mouseEvents.release();
+                listener.onMouseMotionEvent(event);
+
+            } else {
+
+                var event = new MouseButtonEvent(mouseEvents.getField(record, FIELD_BUTTON),
+                        mouseEvents.getField(record, FIELD_PRESSED) != 0, x, y);
+                event.setTime(mouseEvents.getTime(record));
+
+                mouseEvents.release();
+                listener.onMouseButtonEvent(event);
+            }
         }
     }
 
@@ -163,10 +222,7 @@ public class JfxMouseInput extends JfxInput implements MouseInput {
 
         mouseWheel += yOffset;
 
-        var mouseMotionEvent = new MouseMotionEvent(mouseX, mouseY, 0, 0, mouseWheel, (int) Math.round(yOffset));
-        mouseMotionEvent.setTime(getInputTimeNanos());
-
-        EXECUTOR.addToExecute(() -> mouseMotionEvents.add(mouseMotionEvent));
+        addMotionEvent(mouseX, mouseY, 0, 0, (int) Math.round(yOffset));
     }
 
     private void onCursorPos(double xpos, double ypos) {
@@ -174,19 +230,19 @@ public class JfxMouseInput extends JfxInput implements MouseInput {
         int xDelta;
         int yDelta;
 
-        int x = (int) Math.round(xpos);
+        int x = (int) Math.round(xpos * coordinateScaleX);
         int y = 0;
 
         if(inverseYCoord) {
             if (node instanceof Region) {
-                y = (int) Math.round(((Region) node).getHeight() - ypos);
+                y = (int) Math.round((((Region) node).getHeight() - ypos) * coordinateScaleY);
             } else if (node instanceof Canvas) {
-                y = (int) Math.round(((Canvas) node).getHeight() - ypos);
+                y = (int) Math.round((((Canvas) node).getHeight() - ypos) * coordinateScaleY);
             } else if (node instanceof ImageView) {
-                y = (int) Math.round(((ImageView) node).getFitHeight() - ypos);
+                y = (int) Math.round((((ImageView) node).getFitHeight() - ypos) * coordinateScaleY);
             }
         } else {
-            y = (int) Math.round(ypos);
+            y = (int) Math.round(ypos * coordinateScaleY);
         }
 
         if (mouseX == 0) mouseX = x;
@@ -202,18 +258,39 @@ public class JfxMouseInput extends JfxInput implements MouseInput {
             return;
         }
 
-        var mouseMotionEvent = new MouseMotionEvent(x, y, xDelta, yDelta, mouseWheel, 0);
-        mouseMotionEvent.setTime(getInputTimeNanos());
-
-        EXECUTOR.addToExecute(() -> mouseMotionEvents.add(mouseMotionEvent));
+        addMotionEvent(x, y, xDelta, yDelta, 0);
     }
 
     private void onMouseButton(@NotNull MouseButton button, boolean pressed) {
 
-        var mouseButtonEvent = new MouseButtonEvent(convertButton(button), pressed, mouseX, mouseY);
-        mouseButtonEvent.setTime(getInputTimeNanos());
+        var record = mouseEvents.claim();
+
+        mouseEvents.setField(record, FIELD_TYPE, EVENT_BUTTON);
+        mouseEvents.setField(record, FIELD_X, mouseX);
+        mouseEvents.setField(record, FIELD_Y, mouseY);
+        mouseEvents.setField(record, FIELD_BUTTON, convertButton(button));
+        mouseEvents.setField(record, FIELD_PRESSED, pressed ? 1 : 0);
+        mouseEvents.setTime(record, getInputTimeNanos());
+        mouseEvents.publish();
+
+        notifyActivity();
+    }
+
+    private void addMotionEvent(int x, int y, int xDelta, int yDelta, int wheelDelta) {
+
+        var record = mouseEvents.claim();
+
+        mouseEvents.setField(record, FIELD_TYPE, EVENT_MOTION);
+        mouseEvents.setField(record, FIELD_X, x);
+        mouseEvents.setField(record, FIELD_Y, y);
+        mouseEvents.setField(record, FIELD_DX, xDelta);
+        mouseEvents.setField(record, FIELD_DY, yDelta);
+        mouseEvents.setField(record, FIELD_WHEEL, mouseWheel);
+        mouseEvents.setField(record, FIELD_DELTA_WHEEL, wheelDelta);
+        mouseEvents.setTime(record, getInputTimeNanos());
+        mouseEvents.publish();
 
-        EXECUTOR.addToExecute(() -> mouseButtonEvents.add(mouseButtonEvent));
+        notifyActivity();
     }
 
     private int convertButton(@NotNull MouseButton button) {
@@ -3,7 +3,10 @@ package com.jme3.jfx.injfx.processor;
 import static com.ss.rlib.common.util.ObjectUtils.notNull;
 import com.jme3.jfx.injfx.JmeOffscreenSurfaceContext;
 import com.jme3.jfx.injfx.JmeToJfxApplication;
+import com.jme3.jfx.injfx.ViewPortScheduler;
 import com.jme3.jfx.injfx.transfer.FrameTransfer;
+import com.jme3.jfx.injfx.transfer.impl.AbstractFrameTransfer;
+import com.jme3.jfx.injfx.transfer.impl.TransferResourcePool;
 import com.jme3.jfx.util.JfxPlatform;
 import com.jme3.math.FastMath;
 import com.jme3.profile.AppProfiler;
@@ -11,7 +14,6 @@ import com.jme3.renderer.RenderManager;
 import com.jme3.renderer.ViewPort;
 import com.jme3.renderer.queue.RenderQueue;
 import com.jme3.texture.FrameBuffer;
-import com.jme3.texture.Image;
 import com.ss.rlib.logger.api.Logger;
 import com.ss.rlib.logger.api.LoggerLevel;
 import com.ss.rlib.logger.api.LoggerManager;
@@ -21,7 +23,9 @@ import javafx.scene.Node;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The base implementation of scene processor for transferring frames.
@@ -34,6 +38,11 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
 
     protected static final Logger LOGGER = LoggerManager.getLogger(JfxPlatform.class);
 
+    /**
+     * The default delay of reshaping after the last resize of the destination in milliseconds.
+     */
+    public static final int DEFAULT_RESHAPE_DELAY = 100;
+
     /**
      * The width listener.
      */
@@ -56,7 +65,13 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
      * The flag to decide when we should resize.
      */
     @NotNull
-    private final AtomicInteger reshapeNeeded;
+    private final AtomicBoolean reshapeNeeded;
+
+    /**
+     * The pool of resources for frame transfers.
+     */
+    @NotNull
+    private final TransferResourcePool resourcePool;
 
     /**
      * The render manager.
@@ -76,6 +91,12 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
     @Nullable
     private ViewPort guiViewPort;
 
+    /**
+     * The frame buffer from the resource pool which is the output of the gui view port.
+     */
+    @Nullable
+    private FrameBuffer outputFrameBuffer;
+
     /**
      * The frame transfer.
      */
@@ -88,6 +109,21 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
     @NotNull
     private TransferMode transferMode;
 
+    /**
+     * The count of PBOs in the ring for the ring buffered transfer mode.
+     */
+    private int ringBufferSize;
+
+    /**
+     * The flag of skipping reading frames while javaFX didn't write the previous one.
+     */
+    private volatile boolean skipFramesWhilePending;
+
+    /**
+     * The flag of updating in javaFX only regions which were marked as changed.
+     */
+    private volatile boolean dirtyRegionTracking;
+
     /**
      * The JME application.
      */
@@ -105,18 +141,49 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
      */
     private volatile boolean main;
 
-    private int askWidth;
-    private int askHeight;
+    /**
+     * The controller of render scale.
+     */
+    @NotNull
+    private final RenderScaleController renderScaleController;
+
+    /**
+     * The delay of reshaping after the last resize of the destination in milliseconds.
+     */
+    private volatile int reshapeDelay;
+
+    /**
+     * The scale of the frame buffer size relative to the destination size.
+     */
+    private volatile float renderScale;
+
+    /**
+     * The target frame time in nanoseconds for the automatic render scale or 0.
+     */
+    private volatile long targetFrameTime;
+
+    /**
+     * The time of the last resize of the destination in nanoseconds.
+     */
+    private volatile long lastResizeTime;
+
+    private volatile int askWidth;
+    private volatile int askHeight;
 
-    private boolean askFixAspect;
+    private volatile boolean askFixAspect;
     private boolean enabled;
 
     public AbstractFrameTransferSceneProcessor() {
         transferMode = TransferMode.UNBUFFERED;
+        ringBufferSize = AbstractFrameTransfer.DEFAULT_RING_BUFFER_SIZE;
         askWidth = 1;
         askHeight = 1;
         main = true;
-        reshapeNeeded = new AtomicInteger(2);
+        reshapeNeeded = new AtomicBoolean(true);
+        reshapeDelay = DEFAULT_RESHAPE_DELAY;
+        renderScale = 1F;
+        renderScaleController = new RenderScaleController();
+        resourcePool = new TransferResourcePool();
         widthListener = (view, oldValue, newValue) -> notifyChangedWidth(newValue);
         heightListener = (view, oldValue, newValue) -> notifyChangedHeight(newValue);
         rationListener = (view, oldValue, newValue) -> notifyChangedRatio(newValue);
@@ -221,6 +288,15 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
         this.application = application;
     }
 
+    /**
+     * Gets the pool of resources for frame transfers.
+     *
+     * @return the pool of resources.
+     */
+    protected @NotNull TransferResourcePool getResourcePool() {
+        return resourcePool;
+    }
+
     /**
      * Gets the view port.
      *
@@ -263,21 +339,58 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
         newWidth = Math.max(newWidth, 1);
         newHeight = Math.max(newHeight, 1);
 
-        if (askWidth == newWidth && askWidth == newHeight && askFixAspect == fixAspect) {
+        if (askWidth == newWidth && askHeight == newHeight && askFixAspect == fixAspect) {
             return;
         }
 
         askWidth = newWidth;
         askHeight = newHeight;
         askFixAspect = fixAspect;
-        reshapeNeeded.set(2);
+        lastResizeTime = System.nanoTime();
+        reshapeNeeded.set(true);
+        requestRender();
 
         LOGGER.debug(this, processor -> "notify resized to " + processor.askWidth + "x" + processor.askHeight);
     }
 
     @Override
     public void reshape() {
-        reshapeNeeded.set(2);
+        lastResizeTime = 0;
+        reshapeNeeded.set(true);
+        requestRender();
+    }
+
+    /**
+     * Checks of passing the reshape delay after the last resize of the destination. While the destination
+     * is resizing, the current frame is scaled to the destination.
+     *
+     * @return true if the reshape delay is passed.
+     */
+    protected boolean isReshapeDelayPassed() {
+        return getFrameTransfer() == null ||
+                System.nanoTime() - lastResizeTime >= TimeUnit.MILLISECONDS.toNanos(reshapeDelay);
+    }
+
+    /**
+     * Request rendering new frames if the application works in render on demand mode.
+     */
+    protected void requestRender() {
+
+        var application = this.application;
+
+        if (application == null) {
+            return;
+        }
+
+        application.requestRender();
+
+        // scheduled view ports are rendered only by their own requests
+        var scheduler = application.getStateManager().getState(ViewPortScheduler.class);
+        var viewPort = this.viewPort;
+
+        if (scheduler != null && viewPort != null) {
+            scheduler.requestRender(viewPort);
+        }
     }
 
     /**
@@ -448,6 +561,11 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
             var context = (JmeOffscreenSurfaceContext) application.getContext();
             context.getMouseInput().bind(inputNode);
             context.getKeyInput().bind(inputNode);
+
+            var activityTracker = context.getActivityTracker();
+            if (activityTracker != null) {
+                activityTracker.bind(destination);
+            }
         }
 
         setDestination(destination);
@@ -467,6 +585,7 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
     /**
      * Unbind this processor from its current destination.
      */
+    @Override
     public void unbind() {
 
         if (viewPort != null) {
@@ -495,6 +614,11 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
             var context = (JmeOffscreenSurfaceContext) getApplication().getContext();
             context.getMouseInput().unbind();
             context.getKeyInput().unbind();
+
+            var activityTracker = context.getActivityTracker();
+            if (activityTracker != null) {
+                activityTracker.unbind();
+            }
         }
 
         setApplication(null);
@@ -511,6 +635,12 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
     protected void unbindListeners() {
     }
 
+    @Override
+    public boolean copyFinishedTransfers() {
+        var frameTransfer = getFrameTransfer();
+        return isEnabled() && frameTransfer != null && frameTransfer.copyFinishedTransfers();
+    }
+
     @Override
     public boolean isMain() {
         return main;
@@ -548,6 +678,10 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
 
         var frameTransfer = createFrameTransfer(frameBuffer, width, height);
         frameTransfer.initFor(renderManager.getRenderer(), isMain());
+        frameTransfer.setDirtyRegionTracking(isDirtyRegionTracking());
+
+        getApplication().registerFrameLatency(frameTransfer.getFrameLatency());
+        getApplication().requestRender();
 
         if (isMain()) {
             var context = (JmeOffscreenSurfaceContext) getApplication().getContext();
@@ -608,13 +742,8 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
                 .findAny();
 
         if (!any.isPresent()) {
-
-            var frameBuffer = new FrameBuffer(width, height, 1);
-            frameBuffer.setDepthBuffer(Image.Format.Depth);
-            frameBuffer.setColorBuffer(Image.Format.BGRA8);
-            frameBuffer.setSrgb(true);
-
-            getGuiViewPort().setOutputFrameBuffer(frameBuffer);
+            outputFrameBuffer = resourcePool.takeFrameBuffer(width, height);
+            getGuiViewPort().setOutputFrameBuffer(outputFrameBuffer);
         }
 
         for (var sceneProcessor : processors) {
@@ -658,29 +787,113 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
         }
 
         var frameTransfer = getFrameTransfer();
-        if (frameTransfer != null) {
+        if (frameTransfer != null && !(skipFramesWhilePending && frameTransfer.isFramePending())) {
             frameTransfer.copyFrameBufferToImage(getRenderManager());
         }
 
-        // for the next frame
-        if (hasDestination() && reshapeNeeded.get() > 0 && reshapeNeeded.decrementAndGet() >= 0) {
+        // all changes of the size are coalesced to one reshape for the next frame
+        if (hasDestination() && reshapeNeeded.get() && isReshapeDelayPassed() &&
+                reshapeNeeded.compareAndSet(true, false)) {
 
             if (frameTransfer != null) {
                 frameTransfer.dispose();
             }
 
-            setFrameTransfer(reshapeInThread(askWidth, askHeight, askFixAspect));
+            var width = askWidth;
+            var height = askHeight;
+            var scaledWidth = Math.max(Math.round(width * renderScale), 1);
+            var scaledHeight = Math.max(Math.round(height * renderScale), 1);
+
+            setFrameTransfer(reshapeInThread(scaledWidth, scaledHeight, askFixAspect));
+            updateInputScale((float) scaledWidth / width, (float) scaledHeight / height);
+
+            renderScaleController.reset();
+
+        } else if (frameTransfer != null && targetFrameTime > 0) {
+            updateRenderScale();
+        }
+
+        // the reshape isn't finished yet
+        if (reshapeNeeded.get()) {
+            requestRender();
+        }
+    }
+
+    /**
+     * Update the scales of input coordinates from the destination to the frame buffer.
+     *
+     * @param scaleX the scale of X coordinate.
+     * @param scaleY the scale of Y coordinate.
+     */
+    protected void updateInputScale(float scaleX, float scaleY) {
+        if (isMain()) {
+            var context = (JmeOffscreenSurfaceContext) getApplication().getContext();
+            context.getMouseInput().setCoordinateScale(scaleX, scaleY);
+        }
+    }
+
+    /**
+     * Update the render scale by the time of the last frame.
+     */
+    protected void updateRenderScale() {
+
+        var currentScale = renderScale;
+        var newScale = renderScaleController.update(getApplication().getFrameTime(), targetFrameTime, currentScale);
+
+        if (newScale != currentScale) {
+            renderScale = newScale;
+            reshape();
         }
     }
 
     @Override
     public void cleanup() {
+        // the processor can be already cleaned up by cleanupAsync before removing it from the view port
+        if (getFrameTransfer() != null) {
+            cleanupAsync();
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> cleanupAsync() {
 
         var frameTransfer = getFrameTransfer();
 
-        if (frameTransfer != null) {
-            frameTransfer.dispose();
-            setFrameTransfer(null);
+        // the pooled output frame buffer is destroyed together with the pool
+        detachOutputFrameBuffer();
+
+        if (frameTransfer == null) {
+            resourcePool.dispose();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        setFrameTransfer(null);
+
+        var future = frameTransfer.dispose();
+
+        // GL resources of the transfer are already returned to the pool
+        resourcePool.dispose();
+
+        return future;
+    }
+
+    /**
+     * Remove the pooled frame buffer from the output of the gui view port.
+     */
+    private void detachOutputFrameBuffer() {
+
+        var outputFrameBuffer = this.outputFrameBuffer;
+
+        if (outputFrameBuffer == null) {
+            return;
+        }
+
+        this.outputFrameBuffer = null;
+
+        var guiViewPort = this.guiViewPort != null ? this.guiViewPort : viewPort;
+
+        if (guiViewPort != null && guiViewPort.getOutputFrameBuffer() == outputFrameBuffer) {
+            guiViewPort.setOutputFrameBuffer(null);
         }
     }
 
@@ -697,4 +910,86 @@ public abstract class AbstractFrameTransferSceneProcessor<T extends Node> implem
     public void setTransferMode(@NotNull TransferMode transferMode) {
         this.transferMode = transferMode;
     }
+
+    @Override
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    @Override
+    public void setRingBufferSize(int ringBufferSize) {
+        this.ringBufferSize = Math.max(ringBufferSize, AbstractFrameTransfer.MIN_RING_BUFFER_SIZE);
+    }
+
+    @Override
+    public boolean isSkipFramesWhilePending() {
+        return skipFramesWhilePending;
+    }
+
+    @Override
+    public void setSkipFramesWhilePending(boolean skipFramesWhilePending) {
+        this.skipFramesWhilePending = skipFramesWhilePending;
+    }
+
+    @Override
+    public boolean isDirtyRegionTracking() {
+        return dirtyRegionTracking;
+    }
+
+    @Override
+    public void setDirtyRegionTracking(boolean dirtyRegionTracking) {
+        this.dirtyRegionTracking = dirtyRegionTracking;
+
+        var frameTransfer = getFrameTransfer();
+        if (frameTransfer != null) {
+            frameTransfer.setDirtyRegionTracking(dirtyRegionTracking);
+        }
+    }
+
+    @Override
+    public void markDirty(int x, int y, int width, int height) {
+
+        var frameTransfer = getFrameTransfer();
+        if (frameTransfer != null) {
+            frameTransfer.markDirty(x, y, width, height);
+        }
+
+        requestRender();
+    }
+
+    @Override
+    public int getReshapeDelay() {
+        return reshapeDelay;
+    }
+
+    @Override
+    public void setReshapeDelay(int reshapeDelay) {
+        this.reshapeDelay = Math.max(reshapeDelay, 0);
+    }
+
+    @Override
+    public float getRenderScale() {
+        return renderScale;
+    }
+
+    @Override
+    public void setRenderScale(float renderScale) {
+
+        var newScale = Math.min(Math.max(renderScale, RenderScaleController.MIN_RENDER_SCALE), 1F);
+
+        if (this.renderScale != newScale) {
+            this.renderScale = newScale;
+            reshape();
+        }
+    }
+
+    @Override
+    public float getTargetFrameTime() {
+        return targetFrameTime / 1_000_000F;
+    }
+
+    @Override
+    public void setTargetFrameTime(float targetFrameTime) {
+        this.targetFrameTime = (long) (Math.max(targetFrameTime, 0F) * 1_000_000L);
+    }
 }
@@ -59,6 +59,7 @@ public class CanvasFrameTransferSceneProcessor extends AbstractFrameTransferScen
 
     @Override
     protected @NotNull FrameTransfer createFrameTransfer(@NotNull FrameBuffer frameBuffer, int width, int height) {
-        return new CanvasFrameTransfer(getDestination(), getTransferMode(), isMain() ? null : frameBuffer, width, height);
+        return new CanvasFrameTransfer(getDestination(), getTransferMode(), isMain() ? null : frameBuffer, width, height,
+                getRingBufferSize(), getResourcePool(), getApplication().getExecutor());
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.jme3.jfx.injfx.processor;
 
+import com.jme3.jfx.injfx.transfer.impl.AbstractFrameTransfer;
 import com.jme3.post.SceneProcessor;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The interface for implementing frame transfer processor.
  *
@@ -12,7 +15,45 @@ public interface FrameTransferSceneProcessor extends SceneProcessor {
 
     enum TransferMode {
         UNBUFFERED,
-        DOUBLE_BUFFERED
+        DOUBLE_BUFFERED,
+        /**
+         * Reads frames through a ring of PBOs guarded by fences, a frame is read back only when
+         * its transfer has been finished by GPU, so the render thread never waits for it.
+         */
+        RING_BUFFERED,
+        /**
+         * Reads frames through a ring of persistently mapped PBOs which memory is used by JavaFX images directly,
+         * so there is no copying of frames on the CPU side. Requires GL_ARB_buffer_storage and the executor
+         * of the application, without them works as {@link #RING_BUFFERED}.
+         */
+        PERSISTENT_MAPPED
+    }
+
+    /**
+     * Cleanup this processor, should be called in jME thread.
+     *
+     * @return the future which is completed when all resources of this processor are released.
+     */
+    default @NotNull CompletableFuture<Void> cleanupAsync() {
+        cleanup();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Unbind this processor from its view ports and destination, should be called in jME thread.
+     */
+    default void unbind() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Write to javaFX the frames which transfers were finished since the last frame, should be called in jME thread
+     * while the view port of this processor isn't rendered.
+     *
+     * @return true if there are still unfinished transfers.
+     */
+    default boolean copyFinishedTransfers() {
+        return false;
     }
 
     /**
@@ -54,4 +95,131 @@ public interface FrameTransferSceneProcessor extends SceneProcessor {
      * @param transferMode the transfer mode.
      */
     void setTransferMode(@NotNull TransferMode transferMode);
+
+    /**
+     * Get the count of PBOs in the ring for {@link TransferMode#RING_BUFFERED} and
+     * {@link TransferMode#PERSISTENT_MAPPED} modes.
+     *
+     * @return the count of PBOs in the ring.
+     */
+    default int getRingBufferSize() {
+        return AbstractFrameTransfer.DEFAULT_RING_BUFFER_SIZE;
+    }
+
+    /**
+     * Set the count of PBOs in the ring for {@link TransferMode#RING_BUFFERED} and
+     * {@link TransferMode#PERSISTENT_MAPPED} modes.
+     *
+     * @param ringBufferSize the count of PBOs in the ring, can't be less than 3.
+     */
+    default void setRingBufferSize(int ringBufferSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Is the processor skipping reading frames while javaFX didn't write the previous one.
+     *
+     * @return true if the processor skips reading frames while the previous frame is pending.
+     */
+    default boolean isSkipFramesWhilePending() {
+        return false;
+    }
+
+    /**
+     * Set the flag of skipping reading frames while javaFX didn't write the previous one.
+     *
+     * @param skipFramesWhilePending true if the processor should skip reading frames while the previous
+     *                               frame is pending.
+     */
+    default void setSkipFramesWhilePending(boolean skipFramesWhilePending) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Is the processor updating in javaFX only regions which were marked as changed.
+     *
+     * @return true if dirty region tracking is enabled.
+     */
+    default boolean isDirtyRegionTracking() {
+        return false;
+    }
+
+    /**
+     * Set the flag of updating in javaFX only regions which were marked as changed by {@link #markDirty}.
+     * When it's enabled, frames without changed regions aren't written to javaFX at all.
+     *
+     * @param dirtyRegionTracking true if dirty region tracking should be enabled.
+     */
+    default void setDirtyRegionTracking(boolean dirtyRegionTracking) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Mark the region of the current frame as changed, should be called in jME thread.
+     * The region is in the frame buffer coordinates, the origin is bottom left.
+     *
+     * @param x      the x.
+     * @param y      the y.
+     * @param width  the width.
+     * @param height the height.
+     */
+    default void markDirty(int x, int y, int width, int height) {
+    }
+
+    /**
+     * Get the delay of reshaping after the last resize of the destination.
+     *
+     * @return the delay in milliseconds.
+     */
+    default int getReshapeDelay() {
+        return 0;
+    }
+
+    /**
+     * Set the delay of reshaping after the last resize of the destination. All resizes during the delay
+     * are coalesced to one reshape, until then the last frame is scaled to the destination.
+     *
+     * @param reshapeDelay the delay in milliseconds.
+     */
+    default void setReshapeDelay(int reshapeDelay) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the scale of the frame buffer size relative to the destination size.
+     *
+     * @return the render scale.
+     */
+    default float getRenderScale() {
+        return 1F;
+    }
+
+    /**
+     * Set the scale of the frame buffer size relative to the destination size, frames are rendered
+     * in the reduced size and are upscaled by the destination. The scale is limited by [0.25, 1].
+     *
+     * @param renderScale the render scale.
+     */
+    default void setRenderScale(float renderScale) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the target frame time for the automatic render scale.
+     *
+     * @return the target frame time in milliseconds or 0 if the automatic render scale is disabled.
+     */
+    default float getTargetFrameTime() {
+        return 0F;
+    }
+
+    /**
+     * Set the target frame time for the automatic render scale. The render scale is decreased when
+     * frames take longer than the target frame time and is increased back when there is enough headroom.
+     *
+     * @param targetFrameTime the target frame time in milliseconds or 0 to disable the automatic render scale.
+     */
+    default void setTargetFrameTime(float targetFrameTime) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -0,0 +1,90 @@
+package com.jme3.jfx.injfx.processor;
+
+/**
+ * The controller of render scale which decreases the scale when frames take longer than the target
+ * frame time and increases it when there is enough headroom.
+ *
+ * @author JavaSaBr
+ */
+final class RenderScaleController {
+
+    /**
+     * The min render scale.
+     */
+    static final float MIN_RENDER_SCALE = 0.25f;
+
+    /**
+     * The step of changing the render scale.
+     */
+    private static final float SCALE_STEP = 0.05f;
+
+    /**
+     * The smoothing factor of the average frame time.
+     */
+    private static final float SMOOTHING = 0.1f;
+
+    /**
+     * The count of frames between changes of the render scale.
+     */
+    private static final int ADJUST_INTERVAL = 30;
+
+    /**
+     * The average frame time in nanoseconds.
+     */
+    private float averageFrameTime;
+
+    /**
+     * The count of frames since the last change of the render scale.
+     */
+    private int frames;
+
+    /**
+     * Reset the collected frame times.
+     */
+    void reset() {
+        averageFrameTime = 0;
+        frames = 0;
+    }
+
+    /**
+     * Update the controller by the time of the last frame.
+     *
+     * @param frameTime       the time of the last frame in nanoseconds.
+     * @param targetFrameTime the target frame time in nanoseconds.
+     * @param renderScale     the current render scale.
+     * @return the new render scale.
+     */
+    float update(long frameTime, long targetFrameTime, float renderScale) {
+
+        if (frameTime <= 0) {
+            return renderScale;
+        }
+
+        if (frames == 0) {
+            averageFrameTime = frameTime;
+        } else {
+            averageFrameTime += (frameTime - averageFrameTime) * SMOOTHING;
+        }
+
+        if (++frames < ADJUST_INTERVAL) {
+            return renderScale;
+        }
+
+        var newRenderScale = renderScale;
+
+        // the gap between thresholds prevents switching the scale back and forth
+        if (averageFrameTime > targetFrameTime * 1.1f) {
+            newRenderScale = Math.max(renderScale - SCALE_STEP, MIN_RENDER_SCALE);
+        } else if (averageFrameTime < targetFrameTime * 0.75f) {
+            newRenderScale = Math.min(renderScale + SCALE_STEP, 1F);
+        }
+
+        if (newRenderScale != renderScale) {
+            reset();
+        } else {
+            frames = 1;
+        }
+
+        return newRenderScale;
+    }
+}
@@ -0,0 +1,244 @@
+package com.jme3.jfx.injfx.throttle;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The tracker of activity of a JavaFX node: visibility of the node and its parents, state of its window and
+ * time of the last input. The state is updated in JavaFX thread and can be read from any thread, without
+ * a bound node the node is considered as visible and focused.
+ *
+ * @author JavaSaBr
+ */
+public class ActivityTracker {
+
+    /**
+     * The listener of changes of the node, its parents, scene and window.
+     */
+    @NotNull
+    private final InvalidationListener changeListener;
+
+    /**
+     * The observed properties.
+     */
+    @NotNull
+    private final List<Observable> observed;
+
+    /**
+     * The task which is called when the node becomes more active.
+     */
+    @NotNull
+    private final Runnable activityHandler;
+
+    /**
+     * The bound node.
+     */
+    @Nullable
+    private Node node;
+
+    /**
+     * The flag of visibility of the node.
+     */
+    private volatile boolean visible;
+
+    /**
+     * The flag of minimizing the window of the node.
+     */
+    private volatile boolean minimized;
+
+    /**
+     * The flag of focusing the window of the node.
+     */
+    private volatile boolean focused;
+
+    /**
+     * The flag of throttling the render loop, activity is reported only when it's throttled.
+     */
+    private volatile boolean throttled;
+
+    /**
+     * The time of the last input in nanoseconds.
+     */
+    private volatile long lastInputTime;
+
+    /**
+     * Create a new tracker.
+     *
+     * @param activityHandler the task which is called in any thread when the node becomes more active
+     *                        while the render loop is throttled.
+     */
+    public ActivityTracker(@NotNull Runnable activityHandler) {
+        this.activityHandler = activityHandler;
+        this.changeListener = this::onChange;
+        this.observed = new ArrayList<>();
+        this.visible = true;
+        this.focused = true;
+        this.lastInputTime = System.nanoTime();
+    }
+
+    /**
+     * Bind this tracker to the node, should be called in JavaFX thread.
+     *
+     * @param node the node.
+     */
+    public void bind(@NotNull Node node) {
+
+        if (!Platform.isFxApplicationThread()) {
+            throw new RuntimeException("this call is not from JavaFX thread.");
+        }
+
+        unbind();
+
+        this.node = node;
+        this.lastInputTime = System.nanoTime();
+
+        refresh();
+    }
+
+    /**
+     * Unbind this tracker from the node, should be called in JavaFX thread.
+     */
+    public void unbind() {
+
+        unobserve();
+
+        this.node = null;
+        this.visible = true;
+        this.minimized = false;
+        this.focused = true;
+
+        notifyActivity();
+    }
+
+    /**
+     * Notify about new input, can be called from any thread.
+     */
+    public void notifyInput() {
+        lastInputTime = System.nanoTime();
+        notifyActivity();
+    }
+
+    /**
+     * Set the flag of throttling the render loop.
+     *
+     * @param throttled true if the render loop works with lower frame rate than the target frame rate.
+     */
+    public void setThrottled(boolean throttled) {
+        this.throttled = throttled;
+    }
+
+    /**
+     * @return true if the node and its parents are visible and its window is showing.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return true if the window of the node is minimized.
+     */
+    public boolean isMinimized() {
+        return minimized;
+    }
+
+    /**
+     * @return true if the window of the node is focused.
+     */
+    public boolean isFocused() {
+        return focused;
+    }
+
+    /**
+     * Get the time since the last input.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getIdleTime() {
+        return System.nanoTime() - lastInputTime;
+    }
+
+    private void notifyActivity() {
+        if (throttled) {
+            activityHandler.run();
+        }
+    }
+
+    private void onChange(@NotNull Observable observable) {
+        unobserve();
+        refresh();
+    }
+
+    /**
+     * Observe the current parents, scene and window of the node and update the state.
+     */
+    private void refresh() {
+
+        var node = this.node;
+
+        if (node == null) {
+            return;
+        }
+
+        var visible = true;
+
+        for (var current = node; current != null; current = current.getParent()) {
+            observe(current.visibleProperty());
+            observe(current.parentProperty());
+            visible &= current.isVisible();
+        }
+
+        observe(node.sceneProperty());
+
+        Scene scene = node.getScene();
+        Window window = null;
+
+        if (scene != null) {
+            observe(scene.windowProperty());
+            window = scene.getWindow();
+        }
+
+        if (window != null) {
+
+            observe(window.showingProperty());
+            observe(window.focusedProperty());
+
+            if (window instanceof Stage) {
+                observe(((Stage) window).iconifiedProperty());
+            }
+        }
+
+        var wasActive = this.visible && !this.minimized && this.focused;
+
+        this.visible = visible && window != null && window.isShowing();
+        this.minimized = window instanceof Stage && ((Stage) window).isIconified();
+        this.focused = window != null && window.isFocused();
+
+        if (!wasActive) {
+            notifyActivity();
+        }
+    }
+
+    private void observe(@NotNull Observable observable) {
+        observable.addListener(changeListener);
+        observed.add(observable);
+    }
+
+    private void unobserve() {
+
+        for (var observable : observed) {
+            observable.removeListener(changeListener);
+        }
+
+        observed.clear();
+    }
+}
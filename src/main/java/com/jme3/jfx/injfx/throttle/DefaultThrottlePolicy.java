@@ -0,0 +1,147 @@
+package com.jme3.jfx.injfx.throttle;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default throttle policy, it suspends the render loop when the JavaFX node isn't visible or its window
+ * is minimized, and optionally lowers frame rate when the window isn't focused or there was no input for
+ * the idle timeout. Input restores the target frame rate immediately.
+ *
+ * @author JavaSaBr
+ */
+public class DefaultThrottlePolicy implements ThrottlePolicy {
+
+    /**
+     * The frame rate when the node isn't visible or its window is minimized.
+     */
+    private volatile int hiddenFrameRate;
+
+    /**
+     * The frame rate when the window isn't focused or 0 to not throttle.
+     */
+    private volatile int unfocusedFrameRate;
+
+    /**
+     * The frame rate when there was no input for the idle timeout.
+     */
+    private volatile int idleFrameRate;
+
+    /**
+     * The time without input to throttle the render loop in nanoseconds or 0 to not throttle.
+     */
+    private volatile long idleTimeout;
+
+    public DefaultThrottlePolicy() {
+        this.hiddenFrameRate = SUSPENDED;
+        this.idleFrameRate = 10;
+    }
+
+    @Override
+    public int getFrameRate(@NotNull ActivityTracker tracker, int targetFrameRate) {
+
+        if (!tracker.isVisible() || tracker.isMinimized()) {
+            return limit(targetFrameRate, hiddenFrameRate);
+        }
+
+        var frameRate = targetFrameRate;
+
+        var unfocusedFrameRate = this.unfocusedFrameRate;
+        if (unfocusedFrameRate != UNLIMITED && !tracker.isFocused()) {
+            frameRate = limit(frameRate, unfocusedFrameRate);
+        }
+
+        var idleTimeout = this.idleTimeout;
+        if (idleTimeout > 0 && tracker.getIdleTime() >= idleTimeout) {
+            frameRate = limit(frameRate, idleFrameRate);
+        }
+
+        return frameRate;
+    }
+
+    private static int limit(int frameRate, int limit) {
+
+        if (frameRate == SUSPENDED || limit == SUSPENDED) {
+            return SUSPENDED;
+        } else if (frameRate == UNLIMITED) {
+            return limit;
+        } else if (limit == UNLIMITED) {
+            return frameRate;
+        }
+
+        return Math.min(frameRate, limit);
+    }
+
+    /**
+     * Get the frame rate when the node isn't visible or its window is minimized.
+     *
+     * @return the frame rate or {@link #SUSPENDED}.
+     */
+    public int getHiddenFrameRate() {
+        return hiddenFrameRate;
+    }
+
+    /**
+     * Set the frame rate when the node isn't visible or its window is minimized.
+     *
+     * @param hiddenFrameRate the frame rate, {@link #UNLIMITED} to not throttle or {@link #SUSPENDED}.
+     */
+    public void setHiddenFrameRate(int hiddenFrameRate) {
+        this.hiddenFrameRate = hiddenFrameRate;
+    }
+
+    /**
+     * Get the frame rate when the window isn't focused.
+     *
+     * @return the frame rate or {@link #UNLIMITED} if it isn't throttled.
+     */
+    public int getUnfocusedFrameRate() {
+        return unfocusedFrameRate;
+    }
+
+    /**
+     * Set the frame rate when the window isn't focused.
+     *
+     * @param unfocusedFrameRate the frame rate, {@link #UNLIMITED} to not throttle or {@link #SUSPENDED}.
+     */
+    public void setUnfocusedFrameRate(int unfocusedFrameRate) {
+        this.unfocusedFrameRate = unfocusedFrameRate;
+    }
+
+    /**
+     * Get the frame rate when there was no input for the idle timeout.
+     *
+     * @return the frame rate or {@link #SUSPENDED}.
+     */
+    public int getIdleFrameRate() {
+        return idleFrameRate;
+    }
+
+    /**
+     * Set the frame rate when there was no input for the idle timeout.
+     *
+     * @param idleFrameRate the frame rate or {@link #SUSPENDED}.
+     */
+    public void setIdleFrameRate(int idleFrameRate) {
+        this.idleFrameRate = idleFrameRate;
+    }
+
+    /**
+     * Get the time without input to throttle the render loop.
+     *
+     * @return the time in milliseconds or 0 if it isn't throttled.
+     */
+    public long getIdleTimeout() {
+        return TimeUnit.NANOSECONDS.toMillis(idleTimeout);
+    }
+
+    /**
+     * Set the time without input to throttle the render loop to {@link #getIdleFrameRate()}.
+     *
+     * @param idleTimeout the time in milliseconds or 0 to not throttle.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = TimeUnit.MILLISECONDS.toNanos(Math.max(idleTimeout, 0));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jme3.jfx.injfx.throttle;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The policy of throttling the render loop of an offscreen context by the activity of its JavaFX node.
+ * The policy is asked in every iteration of the render loop, so it should be cheap.
+ *
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface ThrottlePolicy {
+
+    /**
+     * The frame rate which means that frame rate isn't limited.
+     */
+    int UNLIMITED = 0;
+
+    /**
+     * The frame rate which means that the render loop is suspended, it wakes up only to execute application
+     * tasks with {@link #SUSPENDED_FRAME_RATE} or on new activity.
+     */
+    int SUSPENDED = -1;
+
+    /**
+     * The frame rate of the suspended render loop.
+     */
+    int SUSPENDED_FRAME_RATE = 1;
+
+    /**
+     * The policy which doesn't throttle the render loop.
+     */
+    ThrottlePolicy NONE = (tracker, targetFrameRate) -> targetFrameRate;
+
+    /**
+     * Get the frame rate of the render loop.
+     *
+     * @param tracker         the tracker of activity of the JavaFX node.
+     * @param targetFrameRate the target frame rate or {@link #UNLIMITED}.
+     * @return the frame rate, {@link #UNLIMITED} or {@link #SUSPENDED}.
+     */
+    int getFrameRate(@NotNull ActivityTracker tracker, int targetFrameRate);
+}
@@ -1,9 +1,12 @@
 package com.jme3.jfx.injfx.transfer;
 
+import com.jme3.jfx.injfx.ApplicationThreadExecutor;
 import com.jme3.renderer.RenderManager;
 import com.jme3.renderer.Renderer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The class for transferring content from a jME frame buffer to somewhere.
  *
@@ -42,7 +45,76 @@ public interface FrameTransfer {
     void copyFrameBufferToImage(@NotNull RenderManager renderManager);
 
     /**
-     * Dispose this transfer.
+     * Mark the region of the current frame as changed. The region is in the frame buffer coordinates.
+     * It's used only when dirty region tracking is enabled.
+     *
+     * @param x      the x.
+     * @param y      the y.
+     * @param width  the width.
+     * @param height the height.
+     */
+    default void markDirty(int x, int y, int width, int height) {
+    }
+
+    /**
+     * Is this transfer updating in javaFX only regions which were marked as changed.
+     *
+     * @return true if dirty region tracking is enabled.
+     */
+    default boolean isDirtyRegionTracking() {
+        return false;
+    }
+
+    /**
+     * Set the executor of tasks in the application thread, it's used to release resources of this transfer.
+     *
+     * @param executor the executor.
+     */
+    default void setExecutor(@NotNull ApplicationThreadExecutor executor) {
+    }
+
+    /**
+     * Set the flag of updating in javaFX only regions which were marked as changed.
+     *
+     * @param dirtyRegionTracking true if dirty region tracking should be enabled.
+     */
+    default void setDirtyRegionTracking(boolean dirtyRegionTracking) {
+    }
+
+    /**
+     * Get the count of frames which are needed to transfer a rendered frame to javaFX.
+     *
+     * @return the count of frames.
+     */
+    default int getFrameLatency() {
+        return 0;
+    }
+
+    /**
+     * Write to javaFX the frames which transfers were finished since the last call without starting new transfers,
+     * should be called in jME thread instead of {@link #copyFrameBufferToImage(RenderManager)} while the frame
+     * buffer isn't rendered.
+     *
+     * @return true if there are still unfinished transfers.
+     */
+    default boolean copyFinishedTransfers() {
+        return false;
+    }
+
+    /**
+     * Checks of having a frame which was read, but wasn't written to javaFX yet.
+     *
+     * @return true if a frame is waiting for writing to javaFX.
+     */
+    default boolean isFramePending() {
+        return false;
+    }
+
+    /**
+     * Dispose this transfer, should be called in jME thread. GL resources are released immediately,
+     * resources which can be still used by javaFX are released later.
+     *
+     * @return the future which is completed when all resources are released.
      */
-    void dispose();
+    @NotNull CompletableFuture<Void> dispose();
 }
@@ -1,6 +1,8 @@
 package com.jme3.jfx.injfx.transfer.impl;
 
 import static com.jme3.jfx.injfx.processor.FrameTransferSceneProcessor.TransferMode;
+import static com.ss.rlib.common.util.ObjectUtils.notNull;
+import com.jme3.jfx.injfx.ApplicationThreadExecutor;
 import com.jme3.jfx.injfx.transfer.FrameTransfer;
 import com.jme3.jfx.util.JfxPlatform;
 import com.jme3.renderer.RenderManager;
@@ -8,6 +10,7 @@ import com.jme3.renderer.Renderer;
 import com.jme3.texture.FrameBuffer;
 import com.jme3.texture.Image;
 import com.jme3.util.BufferUtils;
+import javafx.application.Platform;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.PixelBuffer;
 import javafx.scene.image.PixelFormat;
@@ -19,7 +22,10 @@ import org.lwjgl.opengl.*;
 
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * The base implementation of a frame transfer.
@@ -34,6 +40,38 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
     protected static final int DISPOSING_STATE = 3;
     protected static final int DISPOSED_STATE = 4;
 
+    /**
+     * The default count of PBOs in the ring for {@link TransferMode#RING_BUFFERED} mode.
+     */
+    public static final int DEFAULT_RING_BUFFER_SIZE = 3;
+
+    /**
+     * The min count of PBOs in the ring for {@link TransferMode#RING_BUFFERED} mode.
+     */
+    public static final int MIN_RING_BUFFER_SIZE = 3;
+
+    private static final int REGION_FREE = 0;
+    private static final int REGION_WRITING = 1;
+    private static final int REGION_READY = 2;
+    private static final int REGION_SHOWN = 3;
+    private static final int REGION_RETIRED = 4;
+
+    private static final int MAPPED_STORAGE_FLAGS = GL30.GL_MAP_READ_BIT | GL44.GL_MAP_PERSISTENT_BIT |
+            GL44.GL_MAP_COHERENT_BIT | GL44.GL_CLIENT_STORAGE_BIT;
+
+    private static final int MAPPED_ACCESS_FLAGS = GL30.GL_MAP_READ_BIT | GL44.GL_MAP_PERSISTENT_BIT |
+            GL44.GL_MAP_COHERENT_BIT;
+
+    /**
+     * Checks of supporting persistent mapped buffers by the current GL context.
+     *
+     * @return true if persistent mapped buffers are supported.
+     */
+    public static boolean isPersistentMappingSupported() {
+        var capabilities = GL.getCapabilities();
+        return capabilities.OpenGL44 || capabilities.GL_ARB_buffer_storage;
+    }
+
     /**
      * The Frame state.
      */
@@ -46,6 +84,24 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
     @NotNull
     protected final AtomicInteger imageState;
 
+    /**
+     * The future of disposing this transfer.
+     */
+    @NotNull
+    private final CompletableFuture<Void> disposeFuture;
+
+    /**
+     * The executor of tasks in the application thread.
+     */
+    @Nullable
+    private volatile ApplicationThreadExecutor executor;
+
+    /**
+     * The flag of having a frame which is waiting for writing in JavaFX thread.
+     */
+    @NotNull
+    protected final AtomicBoolean framePending;
+
     /**
      * The Frame buffer.
      */
@@ -88,6 +144,12 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
     @NotNull
     protected final TransferMode transferMode;
 
+    /**
+     * The pool of resources.
+     */
+    @Nullable
+    private final TransferResourcePool resourcePool;
+
     /**
      * How many frames need to write else.
      */
@@ -108,11 +170,104 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
      */
     private final IntBuffer[] pixelBufferObjects;
 
+    /**
+     * The fences of started transfers to PBOs in the ring.
+     */
+    private final long[] fences;
+
+    /**
+     * The indexes of PBOs which are waiting for finishing their transfers, from the oldest.
+     */
+    private final int[] pendingBuffers;
+
+    /**
+     * The states of persistent mapped regions.
+     */
+    @Nullable
+    private final AtomicIntegerArray regionStates;
+
+    /**
+     * The persistent mapped memory of PBOs.
+     */
+    @Nullable
+    private final ByteBuffer[] mappedBuffers;
+
+    /**
+     * The pixel buffers over the persistent mapped memory of PBOs.
+     */
+    @Nullable
+    private final PixelBuffer<ByteBuffer>[] mappedPixelBuffers;
+
+    /**
+     * The images over the persistent mapped memory of PBOs.
+     */
+    @Nullable
+    private final WritableImage[] mappedImages;
+
+    /**
+     * The changed region of the current frame which wasn't transferred yet.
+     */
+    @NotNull
+    private final DirtyRegion frameDamage;
+
+    /**
+     * The changed regions of frames which are transferring to PBOs.
+     */
+    @NotNull
+    private final DirtyRegion[] transferDamages;
+
+    /**
+     * The changed region of frames which were read to the frame byte buffer.
+     */
+    @NotNull
+    private final DirtyRegion readDamage;
+
+    /**
+     * The changed region of the frame byte buffer which wasn't written to JavaFX yet.
+     */
+    @NotNull
+    private final DirtyRegion writeDamage;
+
+    /**
+     * The flag of tracking changed regions of frames to update only them in JavaFX.
+     */
+    private volatile boolean dirtyRegionTracking;
+
+    /**
+     * Index of the newest mapped region which is ready to be shown.
+     */
+    private volatile int readyRegion;
+
+    /**
+     * Index of the mapped region which is shown by JavaFX now.
+     */
+    private int shownRegion;
+
+    /**
+     * Index of the mapped region which was shown by JavaFX before, it can be still in use by JavaFX render.
+     */
+    private int retiredRegion;
+
     /**
      * Index of active PBO
      */
     private int index;
 
+    /**
+     * Index of the oldest PBO in the ring which is waiting for finishing its transfer.
+     */
+    private int readIndex;
+
+    /**
+     * The count of PBOs in the ring which are waiting for finishing their transfers.
+     */
+    private int pendingFrames;
+
+    /**
+     * The flag of having the last frame in the active PBO which wasn't read in double buffered mode.
+     */
+    private boolean doubleBufferedPending;
+
     public AbstractFrameTransfer(@NotNull T destination, int width, int height, @NotNull TransferMode transferMode) {
         this(destination, transferMode, null, width, height);
     }
@@ -124,15 +279,60 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
             int width,
             int height
     ) {
-        this.transferMode = transferMode;
+        this(destination, transferMode, frameBuffer, width, height, DEFAULT_RING_BUFFER_SIZE);
+    }
+
+    public AbstractFrameTransfer(
+            @NotNull T destination,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize
+    ) {
+        this(destination, transferMode, frameBuffer, width, height, ringBufferSize, null);
+    }
+
+    public AbstractFrameTransfer(
+            @NotNull T destination,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize,
+            @Nullable TransferResourcePool resourcePool
+    ) {
+        this(destination, transferMode, frameBuffer, width, height, ringBufferSize, resourcePool, null);
+    }
+
+    public AbstractFrameTransfer(
+            @NotNull T destination,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize,
+            @Nullable TransferResourcePool resourcePool,
+            @Nullable ApplicationThreadExecutor executor
+    ) {
+        this.resourcePool = resourcePool;
+        // mapped memory is released in the application thread after JavaFX stops reading it
+        this.transferMode = transferMode == TransferMode.PERSISTENT_MAPPED &&
+                (executor == null || !isPersistentMappingSupported()) ? TransferMode.RING_BUFFERED : transferMode;
         this.frameState = new AtomicInteger(WAITING_STATE);
         this.imageState = new AtomicInteger(WAITING_STATE);
-        this.width = frameBuffer != null ? frameBuffer.getWidth() : width;
-        this.height = frameBuffer != null ? frameBuffer.getHeight() : height;
+        this.framePending = new AtomicBoolean(false);
+        this.disposeFuture = new CompletableFuture<>();
+        this.executor = executor;
+        // pooled frame buffers can be bigger than frames
+        this.width = frameBuffer != null && resourcePool == null ? frameBuffer.getWidth() : width;
+        this.height = frameBuffer != null && resourcePool == null ? frameBuffer.getHeight() : height;
         this.frameCount = 0;
 
         if (frameBuffer != null) {
             this.frameBuffer = frameBuffer;
+        } else if (resourcePool != null) {
+            this.frameBuffer = resourcePool.takeFrameBuffer(width, height);
         } else {
             this.frameBuffer = new FrameBuffer(width, height, 1);
             this.frameBuffer.setDepthBuffer(Image.Format.Depth);
@@ -140,21 +340,79 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
             this.frameBuffer.setSrgb(true);
         }
 
-        frameByteBuffer = BufferUtils.createByteBuffer(getWidth() * getHeight() * 4);
         pixelFormat = PixelFormat.getByteBgraPreInstance();
-        pixelBuffer = new PixelBuffer<>(width, height, frameByteBuffer, pixelFormat);
-        img = new WritableImage(pixelBuffer);
         updatedBuffer = new Rectangle2D(0, 0, width, height);
 
-        pixelBufferObjects = new IntBuffer[2];
-        if (transferMode == TransferMode.DOUBLE_BUFFERED) {
-            index = 0;
-            
-            final int dataSize = width * height * 4;
-            pixelBufferObjects[0] = createPixelBuffer(dataSize);
-            pixelBufferObjects[1] = createPixelBuffer(dataSize);
+        switch (this.transferMode) {
+            case DOUBLE_BUFFERED:
+                pixelBufferObjects = new IntBuffer[2];
+                break;
+            case RING_BUFFERED:
+                pixelBufferObjects = new IntBuffer[Math.max(ringBufferSize, MIN_RING_BUFFER_SIZE)];
+                break;
+            case PERSISTENT_MAPPED:
+                // +1 region for the image which can be still in use by JavaFX render after switching to the next one
+                pixelBufferObjects = new IntBuffer[Math.max(ringBufferSize, MIN_RING_BUFFER_SIZE) + 1];
+                break;
+            default:
+                pixelBufferObjects = new IntBuffer[0];
+        }
+
+        fences = new long[pixelBufferObjects.length];
+        pendingBuffers = new int[pixelBufferObjects.length];
+        transferDamages = new DirtyRegion[pixelBufferObjects.length];
+
+        for (int i = 0; i < transferDamages.length; i++) {
+            transferDamages[i] = new DirtyRegion();
+        }
+
+        frameDamage = new DirtyRegion();
+        readDamage = new DirtyRegion();
+        writeDamage = new DirtyRegion();
+        writeDamage.add(0, 0, this.width, this.height);
+
+        final int dataSize = width * height * 4;
+
+        if (this.transferMode == TransferMode.PERSISTENT_MAPPED) {
+
+            regionStates = new AtomicIntegerArray(pixelBufferObjects.length);
+            mappedBuffers = new ByteBuffer[pixelBufferObjects.length];
+            mappedPixelBuffers = createPixelBuffers(pixelBufferObjects.length);
+            mappedImages = new WritableImage[pixelBufferObjects.length];
+
+            for (int i = 0; i < pixelBufferObjects.length; i++) {
+                pixelBufferObjects[i] = createMappedPixelBuffer(dataSize);
+                mappedBuffers[i] = mapPixelBuffer(pixelBufferObjects[i], dataSize);
+                mappedPixelBuffers[i] = new PixelBuffer<>(width, height, mappedBuffers[i], pixelFormat);
+                mappedImages[i] = new WritableImage(mappedPixelBuffers[i]);
+            }
+
+            frameByteBuffer = mappedBuffers[0];
+            pixelBuffer = mappedPixelBuffers[0];
+            img = mappedImages[0];
+
+        } else {
+
+            regionStates = null;
+            mappedBuffers = null;
+            mappedPixelBuffers = null;
+            mappedImages = null;
+
+            for (int i = 0; i < pixelBufferObjects.length; i++) {
+                pixelBufferObjects[i] = resourcePool != null ?
+                        resourcePool.takePixelBufferObject(width, height) : createPixelBuffer(dataSize);
+            }
+
+            frameByteBuffer = resourcePool != null ? resourcePool.takeByteBuffer(width, height) :
+                    BufferUtils.createByteBuffer(getWidth() * getHeight() * 4);
+            pixelBuffer = new PixelBuffer<>(width, height, frameByteBuffer, pixelFormat);
+            img = new WritableImage(pixelBuffer);
         }
 
+        readyRegion = -1;
+        shownRegion = -1;
+        retiredRegion = -1;
+
         JfxPlatform.runInFxThread(() -> setImage());
     }
 
@@ -169,8 +427,61 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
         return pixelBufferObject;
     }
 
+    @SuppressWarnings("unchecked")
+    private static @NotNull PixelBuffer<ByteBuffer>[] createPixelBuffers(int size) {
+        return (PixelBuffer<ByteBuffer>[]) new PixelBuffer[size];
+    }
+
+    private IntBuffer createMappedPixelBuffer(int dataSize) {
+        IntBuffer pixelBufferObject = BufferUtils.createIntBuffer(1);
+
+        GL15.glGenBuffers(pixelBufferObject);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObject.get(0));
+        GL44.glBufferStorage(GL21.GL_PIXEL_PACK_BUFFER, dataSize, MAPPED_STORAGE_FLAGS);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+
+        return pixelBufferObject;
+    }
+
+    private @NotNull ByteBuffer mapPixelBuffer(@NotNull IntBuffer pixelBufferObject, int dataSize) {
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObject.get(0));
+        var mapped = GL30.glMapBufferRange(GL21.GL_PIXEL_PACK_BUFFER, 0, dataSize, MAPPED_ACCESS_FLAGS);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+
+        if (mapped == null) {
+            throw new RuntimeException("can't map the pixel buffer object " + pixelBufferObject.get(0));
+        }
+
+        return mapped;
+    }
+
     protected void setImage() { }
 
+    /**
+     * Gets the current pixel buffer to write frames.
+     *
+     * @return the current pixel buffer.
+     */
+    protected @NotNull PixelBuffer<ByteBuffer> getPixelBuffer() {
+        if (mappedPixelBuffers != null && shownRegion != -1) {
+            return mappedPixelBuffers[shownRegion];
+        }
+        return pixelBuffer;
+    }
+
+    /**
+     * Gets the current image which presents frames.
+     *
+     * @return the current image.
+     */
+    protected @NotNull WritableImage getImage() {
+        if (mappedImages != null && shownRegion != -1) {
+            return mappedImages[shownRegion];
+        }
+        return img;
+    }
+
     @Override
     public void initFor(@NotNull Renderer renderer, boolean main) {
         if (main) {
@@ -178,6 +489,67 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
         }
     }
 
+    @Override
+    public int getFrameLatency() {
+        switch (transferMode) {
+            case DOUBLE_BUFFERED:
+                return 1;
+            case RING_BUFFERED:
+            case PERSISTENT_MAPPED:
+                // in the worst case all PBOs in the ring are busy
+                return pixelBufferObjects.length;
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public void markDirty(int x, int y, int width, int height) {
+        frameDamage.add(x, y, width, height);
+    }
+
+    @Override
+    public boolean isDirtyRegionTracking() {
+        return dirtyRegionTracking;
+    }
+
+    @Override
+    public void setExecutor(@NotNull ApplicationThreadExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void setDirtyRegionTracking(boolean dirtyRegionTracking) {
+
+        // the current content of JavaFX image can be outdated, so the next frame should be written fully
+        if (dirtyRegionTracking && !this.dirtyRegionTracking) {
+            synchronized (writeDamage) {
+                writeDamage.add(0, 0, width, height);
+            }
+        }
+
+        this.dirtyRegionTracking = dirtyRegionTracking;
+    }
+
+    /**
+     * Take the region of the frame byte buffer which should be updated in JavaFX.
+     *
+     * @return the region to update or null if nothing was changed.
+     */
+    protected @Nullable Rectangle2D takeUpdatedRegion() {
+
+        // JavaFX switches the whole image in persistent mapped mode
+        if (!dirtyRegionTracking || regionStates != null) {
+            return updatedBuffer;
+        }
+
+        synchronized (writeDamage) {
+            var region = writeDamage.toRectangle(width, height);
+            writeDamage.clear();
+            return region;
+        }
+    }
+
     @Override
     public int getWidth() {
         return width;
@@ -191,34 +563,327 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
     @Override
     public void copyFrameBufferToImage(@NotNull RenderManager renderManager) {
 
-        while (!frameState.compareAndSet(WAITING_STATE, RUNNING_STATE)) {
-            if (frameState.get() == DISPOSED_STATE) {
-                return;
-            }
+        // the transfer is disposing or disposed
+        if (!frameState.compareAndSet(WAITING_STATE, RUNNING_STATE)) {
+            return;
         }
 
         // Convert screenshot.
+        boolean hasFrame;
         try {
-            if (transferMode == TransferMode.DOUBLE_BUFFERED) {
-                index = (index + 1) % 2;
-                final int nextIndex = (index + 1) % 2;
+            switch (transferMode) {
+                case DOUBLE_BUFFERED:
+                    hasFrame = readPixelsDoubleBuffered();
+                    break;
+                case RING_BUFFERED:
+                    hasFrame = readPixelsRingBuffered();
+                    break;
+                case PERSISTENT_MAPPED:
+                    hasFrame = readPixelsPersistentMapped();
+                    break;
+                default:
+                    GL11.glReadPixels(0, 0, width, height, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, frameByteBuffer);
+                    frameDamage.moveTo(readDamage);
+                    hasFrame = true;
+            }
+
+            if (hasFrame) {
+                synchronized (writeDamage) {
+                    readDamage.moveTo(writeDamage);
+                }
+            }
+        } finally {
+            if (!frameState.compareAndSet(RUNNING_STATE, WAITING_STATE)) {
+                throw new RuntimeException("unknown problem with the frame state");
+            }
+        }
 
-                GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[index].get(0));
-                GL11.glReadPixels(0, 0, width, height, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, 0);
+        // the latest frame wins, if JavaFX didn't write the previous frame yet, it will write this one instead
+        if (hasFrame && framePending.compareAndSet(false, true)) {
+            JfxPlatform.runInFxThread(this::writeFrameInFxThread);
+        }
+    }
 
-                GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[nextIndex].get(0));
-                GL15.glGetBufferSubData(GL21.GL_PIXEL_PACK_BUFFER, 0, frameByteBuffer);
+    @Override
+    public boolean copyFinishedTransfers() {
 
-                GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
-            } else {
-                GL11.glReadPixels(0, 0, width, height, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, frameByteBuffer);
+        // the transfer is disposing or disposed
+        if (!frameState.compareAndSet(WAITING_STATE, RUNNING_STATE)) {
+            return false;
+        }
+
+        boolean hasFrame;
+        try {
+            switch (transferMode) {
+                case DOUBLE_BUFFERED:
+                    hasFrame = readPendingDoubleBuffered();
+                    break;
+                case RING_BUFFERED:
+                case PERSISTENT_MAPPED:
+                    hasFrame = pendingFrames > 0 && readFinishedTransfer();
+                    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+                    break;
+                default:
+                    hasFrame = false;
+            }
+
+            if (hasFrame) {
+                synchronized (writeDamage) {
+                    readDamage.moveTo(writeDamage);
+                }
             }
         } finally {
             if (!frameState.compareAndSet(RUNNING_STATE, WAITING_STATE)) {
                 throw new RuntimeException("unknown problem with the frame state");
             }
         }
-        JfxPlatform.runInFxThread(this::writeFrame);
+
+        if (hasFrame && framePending.compareAndSet(false, true)) {
+            JfxPlatform.runInFxThread(this::writeFrameInFxThread);
+        }
+
+        return pendingFrames > 0;
+    }
+
+    @Override
+    public boolean isFramePending() {
+        return framePending.get();
+    }
+
+    /**
+     * Write the last read frame to JavaFX.
+     */
+    private void writeFrameInFxThread() {
+
+        framePending.set(false);
+
+        // the image is disposed
+        if (!imageState.compareAndSet(WAITING_STATE, RUNNING_STATE)) {
+            return;
+        }
+
+        try {
+            if (regionStates == null || showReadyRegion()) {
+                writeFrame();
+            }
+        } finally {
+            imageState.compareAndSet(RUNNING_STATE, WAITING_STATE);
+        }
+    }
+
+    /**
+     * Take the newest ready mapped region to show it by JavaFX.
+     *
+     * @return true if a new region was taken.
+     */
+    private boolean showReadyRegion() {
+
+        var regionStates = notNull(this.regionStates);
+
+        int region = readyRegion;
+
+        // the render thread can drop the ready region only when it has a newer one
+        while (region != -1 && !regionStates.compareAndSet(region, REGION_READY, REGION_SHOWN)) {
+
+            if (region == readyRegion) {
+                return false;
+            }
+
+            region = readyRegion;
+        }
+
+        if (region == -1) {
+            return false;
+        }
+
+        if (retiredRegion != -1) {
+            regionStates.set(retiredRegion, REGION_FREE);
+        }
+
+        if (shownRegion != -1) {
+            regionStates.set(shownRegion, REGION_RETIRED);
+        }
+
+        retiredRegion = shownRegion;
+        shownRegion = region;
+        return true;
+    }
+
+    /**
+     * Read pixels of the current frame to the one PBO and the content of the previous frame from the other.
+     *
+     * @return true if the frame byte buffer was updated.
+     */
+    private boolean readPixelsDoubleBuffered() {
+
+        index = (index + 1) % 2;
+        final int nextIndex = (index + 1) % 2;
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[index].get(0));
+        GL11.glReadPixels(0, 0, width, height, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, 0);
+        frameDamage.moveTo(transferDamages[index]);
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[nextIndex].get(0));
+        GL15.glGetBufferSubData(GL21.GL_PIXEL_PACK_BUFFER, 0, frameByteBuffer);
+        transferDamages[nextIndex].moveTo(readDamage);
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        doubleBufferedPending = true;
+        return true;
+    }
+
+    /**
+     * Read the last frame from the active PBO when no new frames are rendered in double buffered mode.
+     *
+     * @return true if the frame byte buffer was updated.
+     */
+    private boolean readPendingDoubleBuffered() {
+
+        if (!doubleBufferedPending) {
+            return false;
+        }
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[index].get(0));
+        GL15.glGetBufferSubData(GL21.GL_PIXEL_PACK_BUFFER, 0, frameByteBuffer);
+        transferDamages[index].moveTo(readDamage);
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        doubleBufferedPending = false;
+        return true;
+    }
+
+    /**
+     * Read the newest PBO of the ring which transfer was finished and start transferring the current frame
+     * to the next free PBO. The fences are checked without waiting, so if GPU didn't finish any transfer yet,
+     * nothing is read in this frame.
+     *
+     * @return true if the frame byte buffer was updated.
+     */
+    private boolean readPixelsRingBuffered() {
+
+        // we need to read the finished PBO before it can be reused by the next transfer
+        final boolean hasFrame = readFinishedTransfer();
+
+        // if all PBOs are still busy, GPU is too late and we just skip this frame
+        if (pendingFrames < pixelBufferObjects.length) {
+            startTransfer(index);
+            index = (index + 1) % pixelBufferObjects.length;
+        }
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        return hasFrame;
+    }
+
+    /**
+     * Publish the newest mapped region which transfer was finished to JavaFX and start transferring
+     * the current frame to a free region. JavaFX reads the mapped memory directly, so regions are reused only
+     * after JavaFX switched to the next ones.
+     *
+     * @return true if a new region is ready to be shown.
+     */
+    private boolean readPixelsPersistentMapped() {
+
+        var regionStates = notNull(this.regionStates);
+
+        final boolean hasFrame = readFinishedTransfer();
+
+        for (int i = 0; i < pixelBufferObjects.length; i++) {
+            if (regionStates.compareAndSet(i, REGION_FREE, REGION_WRITING)) {
+                startTransfer(i);
+                break;
+            }
+        }
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        return hasFrame;
+    }
+
+    /**
+     * Read the newest PBO of the ring which transfer was finished or make ready the newest finished mapped region.
+     *
+     * @return true if a new frame was read.
+     */
+    private boolean readFinishedTransfer() {
+
+        final int finishedIndex = pollFinishedTransfers();
+
+        if (finishedIndex == -1) {
+            return false;
+        }
+
+        var regionStates = this.regionStates;
+
+        if (regionStates == null) {
+            GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[finishedIndex].get(0));
+            GL15.glGetBufferSubData(GL21.GL_PIXEL_PACK_BUFFER, 0, frameByteBuffer);
+            return true;
+        }
+
+        final int prevReadyRegion = readyRegion;
+
+        regionStates.set(finishedIndex, REGION_READY);
+        readyRegion = finishedIndex;
+
+        // JavaFX didn't take the previous ready region, so it can be reused
+        if (prevReadyRegion != -1) {
+            regionStates.compareAndSet(prevReadyRegion, REGION_READY, REGION_FREE);
+        }
+
+        return true;
+    }
+
+    /**
+     * Check fences of the started transfers from the oldest one and release all finished.
+     *
+     * @return index of the newest PBO which transfer was finished or -1.
+     */
+    private int pollFinishedTransfers() {
+
+        int finishedIndex = -1;
+
+        while (pendingFrames > 0) {
+
+            final int bufferIndex = pendingBuffers[readIndex];
+            final long fence = fences[bufferIndex];
+            final int result = GL32.glClientWaitSync(fence, GL32.GL_SYNC_FLUSH_COMMANDS_BIT, 0);
+
+            if (result != GL32.GL_ALREADY_SIGNALED && result != GL32.GL_CONDITION_SATISFIED) {
+                break;
+            }
+
+            GL32.glDeleteSync(fence);
+            fences[bufferIndex] = 0;
+
+            // changes of the skipped older frames are in the frame byte buffer as well
+            transferDamages[bufferIndex].moveTo(readDamage);
+
+            // the older finished mapped region isn't needed anymore
+            if (finishedIndex != -1 && regionStates != null) {
+                regionStates.set(finishedIndex, REGION_FREE);
+            }
+
+            finishedIndex = bufferIndex;
+            readIndex = (readIndex + 1) % pendingBuffers.length;
+            pendingFrames--;
+        }
+
+        return finishedIndex;
+    }
+
+    /**
+     * Start transferring the current frame to the PBO.
+     *
+     * @param bufferIndex the index of the PBO.
+     */
+    private void startTransfer(int bufferIndex) {
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObjects[bufferIndex].get(0));
+        GL11.glReadPixels(0, 0, width, height, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, 0);
+
+        fences[bufferIndex] = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        frameDamage.moveTo(transferDamages[bufferIndex]);
+        pendingBuffers[(readIndex + pendingFrames) % pendingBuffers.length] = bufferIndex;
+        pendingFrames++;
     }
 
     /**
@@ -227,27 +892,121 @@ public abstract class AbstractFrameTransfer<T> implements FrameTransfer {
     protected abstract void writeFrame();
 
     @Override
-    public void dispose() {
-        while (!frameState.compareAndSet(WAITING_STATE, DISPOSING_STATE)) ;
-        while (!imageState.compareAndSet(WAITING_STATE, DISPOSING_STATE)) ;
-        disposeImpl();
-        frameState.compareAndSet(DISPOSING_STATE, DISPOSED_STATE);
-        imageState.compareAndSet(DISPOSING_STATE, DISPOSED_STATE);
+    public @NotNull CompletableFuture<Void> dispose() {
+
+        // the transfer is already disposing or disposed
+        if (!frameState.compareAndSet(WAITING_STATE, DISPOSING_STATE)) {
+            return disposeFuture;
+        }
+
+        try {
+            disposeImpl();
+        } catch (RuntimeException e) {
+            disposeFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            frameState.set(DISPOSED_STATE);
+        }
+
+        // JavaFX tasks are executed in order, so all queued frames are written before disposing the image
+        JfxPlatform.runInFxThread(this::disposeImageInFxThread);
+
+        return disposeFuture;
     }
 
     /**
-     * Dispose.
+     * Dispose the image in JavaFX thread.
+     */
+    private void disposeImageInFxThread() {
+        imageState.set(DISPOSED_STATE);
+
+        // JavaFX can still render the current image until it gets new one,
+        // so we release the buffers only after processing all current JavaFX tasks
+        Platform.runLater(() -> {
+
+            try {
+                disposeImageImpl();
+            } catch (RuntimeException e) {
+                disposeFuture.completeExceptionally(e);
+                throw e;
+            }
+
+            if (transferMode != TransferMode.PERSISTENT_MAPPED) {
+                disposeFuture.complete(null);
+                return;
+            }
+
+            notNull(executor).addToExecute(() -> {
+                try {
+                    deletePixelBuffers();
+                    disposeFuture.complete(null);
+                } catch (RuntimeException e) {
+                    disposeFuture.completeExceptionally(e);
+                    throw e;
+                }
+            }, ApplicationThreadExecutor.TaskPriority.LIFECYCLE);
+        });
+    }
+
+    /**
+     * Dispose GL resources in jME thread.
      */
     protected void disposeImpl() {
-        frameBuffer.dispose();
-        BufferUtils.destroyDirectBuffer(frameByteBuffer);
 
-        if (transferMode == TransferMode.DOUBLE_BUFFERED) {
-            GL15.glDeleteBuffers(pixelBufferObjects[0].get(0));
-            GL15.glDeleteBuffers(pixelBufferObjects[1].get(0));
+        if (resourcePool != null) {
+            resourcePool.releaseFrameBuffer(frameBuffer);
+        } else {
+            frameBuffer.dispose();
+        }
+
+        for (int i = 0; i < fences.length; i++) {
+            if (fences[i] != 0) {
+                GL32.glDeleteSync(fences[i]);
+                fences[i] = 0;
+            }
+        }
+
+        // JavaFX can still use the mapped memory, so the buffers are deleted after disposing the image
+        if (transferMode != TransferMode.PERSISTENT_MAPPED) {
+            deletePixelBuffers();
+        }
+    }
+
+    /**
+     * Dispose CPU resources of the image in JavaFX thread.
+     */
+    protected void disposeImageImpl() {
+        if (transferMode == TransferMode.PERSISTENT_MAPPED) {
+            return;
+        }
+
+        if (resourcePool != null) {
+            resourcePool.releaseByteBuffer(frameByteBuffer);
+        } else {
+            BufferUtils.destroyDirectBuffer(frameByteBuffer);
+        }
+    }
+
+    /**
+     * Delete all PBOs.
+     */
+    private void deletePixelBuffers() {
+        for (var pixelBufferObject : pixelBufferObjects) {
+
+            // persistent mapped PBOs aren't pooled
+            if (resourcePool != null && transferMode != TransferMode.PERSISTENT_MAPPED) {
+                resourcePool.releasePixelBufferObject(pixelBufferObject);
+                continue;
+            }
+
+            if (transferMode == TransferMode.PERSISTENT_MAPPED) {
+                GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pixelBufferObject.get(0));
+                GL15.glUnmapBuffer(GL21.GL_PIXEL_PACK_BUFFER);
+                GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+            }
 
-            BufferUtils.destroyDirectBuffer(pixelBufferObjects[0]);
-            BufferUtils.destroyDirectBuffer(pixelBufferObjects[1]);
+            GL15.glDeleteBuffers(pixelBufferObject.get(0));
+            BufferUtils.destroyDirectBuffer(pixelBufferObject);
         }
     }
 }
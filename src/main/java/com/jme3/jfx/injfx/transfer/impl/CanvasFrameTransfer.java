@@ -1,5 +1,6 @@
 package com.jme3.jfx.injfx.transfer.impl;
 
+import com.jme3.jfx.injfx.ApplicationThreadExecutor;
 import com.jme3.jfx.injfx.processor.FrameTransferSceneProcessor.TransferMode;
 import com.jme3.texture.FrameBuffer;
 import javafx.scene.canvas.Canvas;
@@ -15,6 +16,9 @@ import org.jetbrains.annotations.Nullable;
  */
 public class CanvasFrameTransfer extends AbstractFrameTransfer<Canvas> {
 
+    @NotNull
+    private final Canvas canvas;
+
     @NotNull
     private GraphicsContext g;
 
@@ -29,16 +33,63 @@ public class CanvasFrameTransfer extends AbstractFrameTransfer<Canvas> {
             int width,
             int height
     ) {
-        super(canvas, transferMode, frameBuffer, width, height);
+        this(canvas, transferMode, frameBuffer, width, height, DEFAULT_RING_BUFFER_SIZE);
+    }
+
+    public CanvasFrameTransfer(
+            @NotNull Canvas canvas,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize
+    ) {
+        this(canvas, transferMode, frameBuffer, width, height, ringBufferSize, null);
+    }
+
+    public CanvasFrameTransfer(
+            @NotNull Canvas canvas,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize,
+            @Nullable TransferResourcePool resourcePool
+    ) {
+        this(canvas, transferMode, frameBuffer, width, height, ringBufferSize, resourcePool, null);
+    }
+
+    public CanvasFrameTransfer(
+            @NotNull Canvas canvas,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize,
+            @Nullable TransferResourcePool resourcePool,
+            @Nullable ApplicationThreadExecutor executor
+    ) {
+        super(canvas, transferMode, frameBuffer, width, height, ringBufferSize, resourcePool, executor);
+        this.canvas = canvas;
         g = canvas.getGraphicsContext2D();
         g.setFill(new Color(1, 1, 1, 1));
     }
 
     @Override
     protected void writeFrame() {
-        pixelBuffer.updateBuffer(pixBuf -> updatedBuffer);
+        var updatedRegion = takeUpdatedRegion();
+
+        if (updatedRegion == null) {
+            return;
+        }
+
+        getPixelBuffer().updateBuffer(pixBuf -> updatedRegion);
+
+        var canvasWidth = canvas.getWidth();
+        var canvasHeight = canvas.getHeight();
 
-        g.fillRect(0, 0, width, height);
-        g.drawImage(img, 0, 0);
+        // the canvas can be already resized, so the frame is scaled until the next reshape
+        g.fillRect(0, 0, canvasWidth, canvasHeight);
+        g.drawImage(getImage(), 0, 0, width, height, 0, 0, canvasWidth, canvasHeight);
     }
 }
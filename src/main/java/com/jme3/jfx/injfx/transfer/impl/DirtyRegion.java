@@ -0,0 +1,103 @@
+package com.jme3.jfx.injfx.transfer.impl;
+
+import javafx.geometry.Rectangle2D;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The bounding rectangle of changed pixels of a frame in the frame buffer coordinates.
+ *
+ * @author JavaSaBr
+ */
+final class DirtyRegion {
+
+    private int minX;
+    private int minY;
+    private int maxX;
+    private int maxY;
+
+    DirtyRegion() {
+        clear();
+    }
+
+    /**
+     * Clear this region.
+     */
+    void clear() {
+        minX = Integer.MAX_VALUE;
+        minY = Integer.MAX_VALUE;
+        maxX = Integer.MIN_VALUE;
+        maxY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Checks of having any changed pixels.
+     *
+     * @return true if this region is empty.
+     */
+    boolean isEmpty() {
+        return maxX <= minX || maxY <= minY;
+    }
+
+    /**
+     * Add the rectangle to this region.
+     *
+     * @param x      the x.
+     * @param y      the y.
+     * @param width  the width.
+     * @param height the height.
+     */
+    void add(int x, int y, int width, int height) {
+
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x + width);
+        maxY = Math.max(maxY, y + height);
+    }
+
+    /**
+     * Add the other region to this region.
+     *
+     * @param other the other region.
+     */
+    void add(@NotNull DirtyRegion other) {
+        if (!other.isEmpty()) {
+            add(other.minX, other.minY, other.maxX - other.minX, other.maxY - other.minY);
+        }
+    }
+
+    /**
+     * Move the content of this region to the other region and clear this region.
+     *
+     * @param other the other region.
+     */
+    void moveTo(@NotNull DirtyRegion other) {
+        other.add(this);
+        clear();
+    }
+
+    /**
+     * Convert this region to a rectangle limited by the frame size.
+     *
+     * @param width  the frame width.
+     * @param height the frame height.
+     * @return the rectangle or null if this region doesn't have any pixels in the frame.
+     */
+    @Nullable Rectangle2D toRectangle(int width, int height) {
+
+        var x = Math.max(minX, 0);
+        var y = Math.max(minY, 0);
+        var right = Math.min(maxX, width);
+        var bottom = Math.min(maxY, height);
+
+        if (right <= x || bottom <= y) {
+            return null;
+        }
+
+        return new Rectangle2D(x, y, right - x, bottom - y);
+    }
+}
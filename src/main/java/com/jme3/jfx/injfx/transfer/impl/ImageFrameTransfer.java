@@ -1,5 +1,6 @@
 package com.jme3.jfx.injfx.transfer.impl;
 
+import com.jme3.jfx.injfx.ApplicationThreadExecutor;
 import com.jme3.jfx.injfx.processor.FrameTransferSceneProcessor.TransferMode;
 import com.jme3.texture.FrameBuffer;
 import javafx.scene.image.ImageView;
@@ -27,7 +28,43 @@ public class ImageFrameTransfer extends AbstractFrameTransfer<ImageView> {
             int width,
             int height
     ) {
-        super(imageView, transferMode, frameBuffer, width, height);
+        this(imageView, transferMode, frameBuffer, width, height, DEFAULT_RING_BUFFER_SIZE);
+    }
+
+    public ImageFrameTransfer(
+            @NotNull ImageView imageView,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize
+    ) {
+        this(imageView, transferMode, frameBuffer, width, height, ringBufferSize, null);
+    }
+
+    public ImageFrameTransfer(
+            @NotNull ImageView imageView,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize,
+            @Nullable TransferResourcePool resourcePool
+    ) {
+        this(imageView, transferMode, frameBuffer, width, height, ringBufferSize, resourcePool, null);
+    }
+
+    public ImageFrameTransfer(
+            @NotNull ImageView imageView,
+            @NotNull TransferMode transferMode,
+            @Nullable FrameBuffer frameBuffer,
+            int width,
+            int height,
+            int ringBufferSize,
+            @Nullable TransferResourcePool resourcePool,
+            @Nullable ApplicationThreadExecutor executor
+    ) {
+        super(imageView, transferMode, frameBuffer, width, height, ringBufferSize, resourcePool, executor);
         this.imageView = imageView;
     }
 
@@ -38,6 +75,17 @@ public class ImageFrameTransfer extends AbstractFrameTransfer<ImageView> {
 
     @Override
     protected void writeFrame() {
-        pixelBuffer.updateBuffer(pixBuf -> updatedBuffer);
+
+        var image = getImage();
+
+        if (imageView.getImage() != image) {
+            imageView.setImage(image);
+        }
+
+        var updatedRegion = takeUpdatedRegion();
+
+        if (updatedRegion != null) {
+            getPixelBuffer().updateBuffer(pixBuf -> updatedRegion);
+        }
     }
 }
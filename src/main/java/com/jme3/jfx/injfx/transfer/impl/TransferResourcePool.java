@@ -0,0 +1,291 @@
+package com.jme3.jfx.injfx.transfer.impl;
+
+import com.jme3.texture.FrameBuffer;
+import com.jme3.texture.Image;
+import com.jme3.util.BufferUtils;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The pool of frame buffers, PBOs and direct byte buffers for frame transfers. Resources are allocated
+ * with sizes rounded up to {@link #BUCKET_SIZE} pixels and are reused for all frames which fit them,
+ * so resizing doesn't allocate new resources in most cases. Released resources which are smaller
+ * than a newly allocated one are destroyed, so capacity of the pool only grows.
+ * <p>
+ * Frame buffers and PBOs should be taken, released and disposed in jME thread, byte buffers can be
+ * released in any thread.
+ *
+ * @author JavaSaBr
+ */
+public class TransferResourcePool {
+
+    /**
+     * The granularity of sizes of pooled resources in pixels.
+     */
+    public static final int BUCKET_SIZE = 64;
+
+    /**
+     * The free frame buffers.
+     */
+    @NotNull
+    private final List<FrameBuffer> frameBuffers;
+
+    /**
+     * The free PBOs.
+     */
+    @NotNull
+    private final List<IntBuffer> pixelBufferObjects;
+
+    /**
+     * The free byte buffers.
+     */
+    @NotNull
+    private final List<ByteBuffer> byteBuffers;
+
+    /**
+     * The capacities of all taken and free PBOs.
+     */
+    @NotNull
+    private final Map<IntBuffer, Integer> pixelBufferObjectSizes;
+
+    /**
+     * The flag of disposing this pool, released resources are destroyed immediately after it.
+     */
+    private boolean disposed;
+
+    public TransferResourcePool() {
+        this.frameBuffers = new ArrayList<>();
+        this.pixelBufferObjects = new ArrayList<>();
+        this.byteBuffers = new ArrayList<>();
+        this.pixelBufferObjectSizes = new IdentityHashMap<>();
+    }
+
+    /**
+     * Round up the size to the bucket size.
+     *
+     * @param size the size in pixels.
+     * @return the rounded size.
+     */
+    private static int toBucket(int size) {
+        return Math.max((size + BUCKET_SIZE - 1) / BUCKET_SIZE, 1) * BUCKET_SIZE;
+    }
+
+    /**
+     * Take a frame buffer which is not smaller than the size.
+     *
+     * @param width  the min width.
+     * @param height the min height.
+     * @return the frame buffer.
+     */
+    public synchronized @NotNull FrameBuffer takeFrameBuffer(int width, int height) {
+        disposed = false;
+
+        FrameBuffer result = null;
+
+        for (var frameBuffer : frameBuffers) {
+
+            if (frameBuffer.getWidth() < width || frameBuffer.getHeight() < height) {
+                continue;
+            }
+
+            if (result == null || frameBuffer.getWidth() * frameBuffer.getHeight() <
+                    result.getWidth() * result.getHeight()) {
+                result = frameBuffer;
+            }
+        }
+
+        if (result != null) {
+            frameBuffers.remove(result);
+            return result;
+        }
+
+        result = new FrameBuffer(toBucket(width), toBucket(height), 1);
+        result.setDepthBuffer(Image.Format.Depth);
+        result.setColorBuffer(Image.Format.BGRA8);
+        result.setSrgb(true);
+
+        var newFrameBuffer = result;
+
+        frameBuffers.removeIf(frameBuffer -> {
+
+            if (frameBuffer.getWidth() > newFrameBuffer.getWidth() ||
+                    frameBuffer.getHeight() > newFrameBuffer.getHeight()) {
+                return false;
+            }
+
+            frameBuffer.dispose();
+            return true;
+        });
+
+        return result;
+    }
+
+    /**
+     * Release the frame buffer to this pool.
+     *
+     * @param frameBuffer the frame buffer.
+     */
+    public synchronized void releaseFrameBuffer(@NotNull FrameBuffer frameBuffer) {
+        if (disposed) {
+            frameBuffer.dispose();
+        } else {
+            frameBuffers.add(frameBuffer);
+        }
+    }
+
+    /**
+     * Take a PBO which is not smaller than the frame size.
+     *
+     * @param width  the frame width.
+     * @param height the frame height.
+     * @return the PBO.
+     */
+    public synchronized @NotNull IntBuffer takePixelBufferObject(int width, int height) {
+        disposed = false;
+
+        var dataSize = width * height * 4;
+
+        IntBuffer result = null;
+        var resultSize = Integer.MAX_VALUE;
+
+        for (var pixelBufferObject : pixelBufferObjects) {
+
+            int size = pixelBufferObjectSizes.get(pixelBufferObject);
+
+            if (size >= dataSize && size < resultSize) {
+                result = pixelBufferObject;
+                resultSize = size;
+            }
+        }
+
+        if (result != null) {
+            pixelBufferObjects.remove(result);
+            return result;
+        }
+
+        var newSize = toBucket(width) * toBucket(height) * 4;
+
+        result = BufferUtils.createIntBuffer(1);
+
+        GL15.glGenBuffers(result);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, result.get(0));
+        GL15.glBufferData(GL21.GL_PIXEL_PACK_BUFFER, newSize, GL15.GL_STREAM_READ);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+
+        pixelBufferObjectSizes.put(result, newSize);
+        pixelBufferObjects.removeIf(pixelBufferObject -> {
+
+            if (pixelBufferObjectSizes.get(pixelBufferObject) > newSize) {
+                return false;
+            }
+
+            deletePixelBufferObject(pixelBufferObject);
+            return true;
+        });
+
+        return result;
+    }
+
+    /**
+     * Release the PBO to this pool.
+     *
+     * @param pixelBufferObject the PBO.
+     */
+    public synchronized void releasePixelBufferObject(@NotNull IntBuffer pixelBufferObject) {
+        if (disposed) {
+            deletePixelBufferObject(pixelBufferObject);
+        } else {
+            pixelBufferObjects.add(pixelBufferObject);
+        }
+    }
+
+    private void deletePixelBufferObject(@NotNull IntBuffer pixelBufferObject) {
+        pixelBufferObjectSizes.remove(pixelBufferObject);
+        GL15.glDeleteBuffers(pixelBufferObject.get(0));
+        BufferUtils.destroyDirectBuffer(pixelBufferObject);
+    }
+
+    /**
+     * Take a direct byte buffer which is not smaller than the frame size, the limit of the buffer
+     * is set to the frame size.
+     *
+     * @param width  the frame width.
+     * @param height the frame height.
+     * @return the byte buffer.
+     */
+    public synchronized @NotNull ByteBuffer takeByteBuffer(int width, int height) {
+        disposed = false;
+
+        var dataSize = width * height * 4;
+
+        ByteBuffer result = null;
+
+        for (var byteBuffer : byteBuffers) {
+            if (byteBuffer.capacity() >= dataSize && (result == null || byteBuffer.capacity() < result.capacity())) {
+                result = byteBuffer;
+            }
+        }
+
+        if (result != null) {
+            byteBuffers.remove(result);
+        } else {
+
+            result = BufferUtils.createByteBuffer(toBucket(width) * toBucket(height) * 4);
+
+            var newCapacity = result.capacity();
+
+            byteBuffers.removeIf(byteBuffer -> {
+
+                if (byteBuffer.capacity() > newCapacity) {
+                    return false;
+                }
+
+                BufferUtils.destroyDirectBuffer(byteBuffer);
+                return true;
+            });
+        }
+
+        result.clear();
+        result.limit(dataSize);
+
+        return result;
+    }
+
+    /**
+     * Release the byte buffer to this pool.
+     *
+     * @param byteBuffer the byte buffer.
+     */
+    public synchronized void releaseByteBuffer(@NotNull ByteBuffer byteBuffer) {
+        if (disposed) {
+            BufferUtils.destroyDirectBuffer(byteBuffer);
+        } else {
+            byteBuffers.add(byteBuffer);
+        }
+    }
+
+    /**
+     * Destroy all free resources of this pool, resources which will be released later are destroyed
+     * immediately until taking new resources.
+     */
+    public synchronized void dispose() {
+        disposed = true;
+
+        frameBuffers.forEach(FrameBuffer::dispose);
+        frameBuffers.clear();
+
+        pixelBufferObjects.forEach(this::deletePixelBufferObject);
+        pixelBufferObjects.clear();
+
+        byteBuffers.forEach(BufferUtils::destroyDirectBuffer);
+        byteBuffers.clear();
+    }
+}
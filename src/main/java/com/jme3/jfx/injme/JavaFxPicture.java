@@ -1,7 +1,9 @@
 package com.jme3.jfx.injme;
 
-import static com.jme3.jfx.injme.util.JmeWindowUtils.*;
-import com.jme3.system.JmeContext;
+import com.jme3.jfx.injme.util.JmeWindowState;
+import com.jme3.jfx.injme.util.PixelRegion;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.scene.VertexBuffer.Type;
 import com.jme3.ui.Picture;
 import com.jme3.jfx.util.JfxPlatform;
 import com.ss.rlib.logger.api.Logger;
@@ -10,6 +12,8 @@ import com.ss.rlib.logger.api.LoggerManager;
 import com.sun.javafx.embed.EmbeddedStageInterface;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.FloatBuffer;
+
 /**
  * The implementation of the {@link Picture} to represent javaFX UI Scene.
  *
@@ -44,7 +48,7 @@ public class JavaFxPicture extends Picture {
     public void updateLogicalState(final float tpf) {
 
         final JmeFxContainerInternal container = getContainer();
-        final JmeContext jmeContext = container.getJmeContext();
+        final JmeWindowState windowState = container.getWindowState();
         try {
 
             final EmbeddedStageInterface stageInterface = container.getStageInterface();
@@ -52,15 +56,17 @@ public class JavaFxPicture extends Picture {
                 return;
             }
 
-            final int windowWidth = getWidth(jmeContext);
-            final int windowHeight = getHeight(jmeContext);
+            final int windowWidth = windowState.getWidth();
+            final int windowHeight = windowState.getHeight();
 
-            if (windowWidth != container.getSceneWidth() || windowHeight != container.getSceneHeight()) {
+            // the scene is fitted only once, when the window stops resizing
+            if ((windowWidth != container.getSceneWidth() || windowHeight != container.getSceneHeight()) &&
+                    container.isWindowSizeSettled()) {
                 container.fitSceneToWindowSize();
             }
 
-            final int currentX = getX(jmeContext);
-            final int currentY = getY(jmeContext);
+            final int currentX = windowState.getX();
+            final int currentY = windowState.getY();
 
             if (container.getPositionX() != currentX || container.getPositionY() != currentY) {
 
@@ -75,4 +81,42 @@ public class JavaFxPicture extends Picture {
             super.updateLogicalState(tpf);
         }
     }
+
+    /**
+     * Show only the part of the javaFX frame, the geometry and texture coordinates are cropped to it,
+     * so transparent pixels outside of it aren't drawn.
+     *
+     * @param bounds      the packed bounds of the visible part of the frame.
+     * @param frameWidth  the width of the frame.
+     * @param frameHeight the height of the frame.
+     * @see PixelRegion
+     */
+    public void setVisibleBounds(final long bounds, final int frameWidth, final int frameHeight) {
+
+        final int minX = PixelRegion.getMinX(bounds);
+        final int minY = PixelRegion.getMinY(bounds);
+        final int maxX = PixelRegion.getMaxX(bounds);
+        final int maxY = PixelRegion.getMaxY(bounds);
+
+        // rows of javaFX frames go from top to bottom, but jME coordinates go from bottom to top
+        setPosition(minX, frameHeight - maxY);
+        setWidth(PixelRegion.getWidth(bounds));
+        setHeight(PixelRegion.getHeight(bounds));
+
+        final float minU = (float) minX / frameWidth;
+        final float maxU = (float) maxX / frameWidth;
+        final float minV = (float) minY / frameHeight;
+        final float maxV = (float) maxY / frameHeight;
+
+        final VertexBuffer texCoord = getMesh().getBuffer(Type.TexCoord);
+        final FloatBuffer data = (FloatBuffer) texCoord.getData();
+        data.clear();
+        data.put(minU).put(maxV)
+                .put(maxU).put(maxV)
+                .put(maxU).put(minV)
+                .put(minU).put(minV);
+        data.flip();
+
+        texCoord.updateData(data);
+    }
 }
@@ -15,6 +15,19 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface JmeFxContainer {
 
+    enum UploadMode {
+        /**
+         * Uploads frames through jME images in the render thread.
+         */
+        IMAGE,
+        /**
+         * Streams frames through a pair of pixel unpack buffers, pixels are copied to them in a worker thread
+         * and transferred to the texture by the driver asynchronously. Requires GL_ARB_map_buffer_range,
+         * without it works as {@link #IMAGE}.
+         */
+        PIXEL_BUFFER_STREAMED
+    }
+
     /**
      * Build the JavaFX container for the application.
      *
@@ -51,6 +64,20 @@ public interface JmeFxContainer {
      */
     Void writeToJme();
 
+    /**
+     * Gets the mode of uploading javaFX frames to jME texture.
+     *
+     * @return the upload mode.
+     */
+    @NotNull UploadMode getUploadMode();
+
+    /**
+     * Sets the mode of uploading javaFX frames to jME texture.
+     *
+     * @param uploadMode the upload mode.
+     */
+    void setUploadMode(@NotNull UploadMode uploadMode);
+
     /**
      * Set a new scene to this container.
      *
@@ -8,9 +8,16 @@ import com.jme3.app.state.AppStateManager;
 import com.jme3.asset.AssetManager;
 import com.jme3.jfx.injme.cursor.CursorDisplayProvider;
 import com.jme3.jfx.injme.input.JmeFXInputListener;
-import com.jme3.jfx.injme.util.JmeWindowUtils;
+import com.jme3.jfx.injme.util.FrameDamageTracker;
+import com.jme3.jfx.injme.util.PixelBufferStreamer;
+import com.jme3.jfx.injme.util.JmeWindowState;
+import com.jme3.jfx.injme.util.PixelRegion;
+import com.jme3.jfx.injme.util.PixelTripleBuffer;
 import com.jme3.jfx.util.JfxPlatform;
 import com.jme3.input.InputManager;
+import com.jme3.material.Material;
+import com.jme3.material.RenderState.BlendMode;
+import com.jme3.renderer.Caps;
 import com.jme3.scene.Node;
 import com.jme3.scene.Spatial.CullHint;
 import com.jme3.system.JmeContext;
@@ -21,9 +28,6 @@ import com.jme3.texture.image.ColorSpace;
 import com.jme3.ui.Picture;
 import com.jme3.util.BufferUtils;
 import com.jme3.jfx.injme.cursor.proton.ProtonCursorProvider;
-import com.ss.rlib.common.concurrent.atomic.AtomicInteger;
-import com.ss.rlib.common.concurrent.lock.AsyncReadSyncWriteLock;
-import com.ss.rlib.common.concurrent.lock.LockFactory;
 import com.ss.rlib.logger.api.Logger;
 import com.ss.rlib.logger.api.LoggerLevel;
 import com.ss.rlib.logger.api.LoggerManager;
@@ -38,10 +42,13 @@ import com.sun.javafx.stage.EmbeddedWindow;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL12;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -57,7 +64,15 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     @NotNull
     private static final Logger LOGGER = LoggerManager.getLogger(JfxPlatform.class);
 
-    private static final int MIN_RESIZE_INTERVAL = 300;
+    /**
+     * The time in milliseconds which the window size should be unchanged to fit the scene to it.
+     */
+    private static final int RESIZE_SETTLE_TIME = 50;
+
+    /**
+     * The min part of a frame which is changed to upload the whole frame instead of the changed region.
+     */
+    private static final float FULL_UPLOAD_RATIO = 0.5F;
 
     /**
      * Build the JavaFX container for the application.
@@ -135,31 +150,41 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
 
         @Override
         public void cleanup() {
+            windowState.dispose();
             Platform.exit();
             super.cleanup();
         }
     };
 
+    /**
+     * The path to the material definition which reorders channels of javaFX pixels in shaders.
+     */
+    private static final String PICTURE_MATERIAL = "com/jme3/jfx/injme/shader/JavaFxPicture.j3md";
+
     @NotNull
     protected volatile CompletableFuture<Format> nativeFormat = new CompletableFuture<>();
 
     /**
-     * The count of frames which need to write to JME.
+     * The material which reorders channels of javaFX pixels in shaders or null if shaders aren't supported.
      */
-    @NotNull
-    private final AtomicInteger waitCount;
+    @Nullable
+    private final Material pictureMaterial;
 
     /**
-     * The lock to control transfer frames from javaFX to JME.
+     * The flag of javaFX pixels in ARGB order, otherwise they are in BGRA order.
      */
-    @NotNull
-    private final AsyncReadSyncWriteLock imageLock;
+    private volatile boolean argbPixels;
+
+    /**
+     * The flag of javaFX pixels with premultiplied alpha.
+     */
+    private volatile boolean premultipliedPixels;
 
     /**
      * The image node to present javaFX scene.
      */
     @NotNull
-    private final Picture picture;
+    private final JavaFxPicture picture;
 
     /**
      * The texture to present javaFX scene.
@@ -173,6 +198,12 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     @NotNull
     private final JmeContext jmeContext;
 
+    /**
+     * The cached size and position of jME window.
+     */
+    @NotNull
+    private final JmeWindowState windowState;
+
     /**
      * The jME application.
      */
@@ -234,39 +265,57 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     protected volatile Image jmeImage;
 
     /**
-     * The data of javaFX frame on the jME side.
+     * The triple buffer to transfer frames from javaFX to jME.
      */
     @Nullable
-    protected volatile ByteBuffer jmeData;
+    protected volatile PixelTripleBuffer pixelBuffer;
 
     /**
-     * The data buffer of javaFX frame on javaFX side.
+     * The tracker of changed regions of javaFX frames, is updated only in javaFX thread.
      */
     @Nullable
-    protected volatile ByteBuffer fxData;
+    protected volatile FrameDamageTracker damageTracker;
 
     /**
-     * The temp data to transfer frames between javaFX and jME.
+     * The image to upload changed regions of javaFX frames, is used only in jME thread.
      */
     @Nullable
-    protected volatile ByteBuffer tempData;
+    protected Image regionImage;
 
     /**
-     * The int presentation of the {@link #tempData}.
+     * The pixels of a changed region, is used only in jME thread.
      */
     @Nullable
-    protected volatile IntBuffer tempIntData;
+    protected ByteBuffer regionData;
 
     /**
-     * The function to reorder pixels.
+     * The packed bounds of the area of the texture which has pixels of the last taken javaFX frame,
+     * is used only in jME thread.
+     */
+    protected long uploadedBounds;
+
+    /**
+     * The packed visible bounds of the javaFX frame which is being streamed, is used only in jME thread.
+     */
+    protected long streamedBounds;
+
+    /**
+     * The streamer of javaFX frames through pixel unpack buffers, is used only in jME thread.
      */
     @Nullable
-    protected volatile Function<ByteBuffer, Void> reorderData;
+    protected PixelBufferStreamer pixelBufferStreamer;
+
+    /**
+     * The mode of uploading javaFX frames.
+     */
+    @NotNull
+    protected volatile UploadMode uploadMode;
 
     /**
-     * The time of last resized window.
+     * The function to reorder pixels.
      */
-    protected volatile long lastResized;
+    @Nullable
+    protected volatile Function<ByteBuffer, Void> reorderData;
 
     /**
      * The width of javaFX scene.
@@ -310,15 +359,23 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
 
     protected JmeFxContainerImpl(@NotNull final AssetManager assetManager, @NotNull final Application application,
                                  @NotNull final CursorDisplayProvider cursorProvider) {
+
+        // raw javaFX pixels are uploaded as is, so channels are reordered on GPU instead of CPU
+        if (application.getRenderer().getCaps().contains(Caps.GLSL100)) {
+            this.pictureMaterial = new Material(assetManager, PICTURE_MATERIAL);
+        } else {
+            this.pictureMaterial = null;
+        }
+
         this.initFx();
         this.positionY = -1;
         this.positionX = -1;
         this.jmeContext = application.getContext();
-        this.waitCount = new AtomicInteger();
-        this.imageLock = LockFactory.newAtomicARSWLock();
+        this.windowState = new JmeWindowState(jmeContext);
         this.cursorProvider = cursorProvider;
         this.application = application;
         this.visibleCursor = true;
+        this.uploadMode = UploadMode.IMAGE;
         this.inputListener = new JmeFXInputListener(this);
 
         final AppStateManager stateManager = application.getStateManager();
@@ -329,7 +386,13 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
         this.picture.move(0, 0, -1);
         this.picture.setPosition(0, 0);
         this.texture = new Texture2D(new Image());
-        this.picture.setTexture(assetManager, texture, true);
+
+        if (pictureMaterial != null) {
+            pictureMaterial.setTexture("Texture", texture);
+            picture.setMaterial(pictureMaterial);
+        } else {
+            this.picture.setTexture(assetManager, texture, true);
+        }
 
         fitSceneToWindowSize();
     }
@@ -343,24 +406,6 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
         return true;
     }
 
-    /**
-     * Sets the last timestamp of context resizing.
-     *
-     * @param time the last timestamp of context resizing.
-     */
-    private void setLastResized(final long time) {
-        this.lastResized = time;
-    }
-
-    /**
-     * Gets the last timestamp of context resizing.
-     *
-     * @return the last timestamp of context resizing.
-     */
-    private long getLastResized() {
-        return lastResized;
-    }
-
     @Override
     public @NotNull Application getApplication() {
         return application;
@@ -372,17 +417,18 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     }
 
     @Override
-    public @NotNull CursorDisplayProvider getCursorProvider() {
-        return cursorProvider;
+    public @NotNull JmeWindowState getWindowState() {
+        return windowState;
     }
 
-    /**
-     * Gets the lock to control transferring frames.
-     *
-     * @return the lock.
-     */
-    private @NotNull AsyncReadSyncWriteLock getImageLock() {
-        return imageLock;
+    @Override
+    public boolean isWindowSizeSettled() {
+        return windowState.isSizeSettled(RESIZE_SETTLE_TIME);
+    }
+
+    @Override
+    public @NotNull CursorDisplayProvider getCursorProvider() {
+        return cursorProvider;
     }
 
     @Override
@@ -433,7 +479,7 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
      *
      * @return the image node to present javaFX scene.
      */
-    private @NotNull Picture getPicture() {
+    private @NotNull JavaFxPicture getPicture() {
         return picture;
     }
 
@@ -512,39 +558,12 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     }
 
     /**
-     * Gets the data buffer of javaFX frame on javaFX side.
-     *
-     * @return the data buffer.
-     */
-    private @Nullable ByteBuffer getFxData() {
-        return fxData;
-    }
-
-    /**
-     * Gets the data of javaFX frame on the jME side.
-     *
-     * @return the data of javaFX frame on the jME side.
-     */
-    private @Nullable ByteBuffer getJmeData() {
-        return jmeData;
-    }
-
-    /**
-     * Gets the temp data to transfer frames between javaFX and jME.
-     *
-     * @return the temp data to transfer frames between javaFX and jME.
-     */
-    private @Nullable ByteBuffer getTempData() {
-        return tempData;
-    }
-
-    /**
-     * Gets the int presentation of the tempData.
+     * Gets the triple buffer to transfer frames from javaFX to jME.
      *
-     * @return the int presentation of the tempData.
+     * @return the triple buffer.
      */
-    private @Nullable IntBuffer getTempIntData() {
-        return tempIntData;
+    private @Nullable PixelTripleBuffer getPixelBuffer() {
+        return pixelBuffer;
     }
 
     /**
@@ -556,15 +575,6 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
         return texture;
     }
 
-    /**
-     * Gets the the count of waited frames.
-     *
-     * @return the count of waited frames.
-     */
-    private @NotNull AtomicInteger getWaitCount() {
-        return waitCount;
-    }
-
     @Override
     public void grabFocus() {
 
@@ -580,44 +590,37 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     @Override
     public void fitSceneToWindowSize() {
 
-        final long time = System.currentTimeMillis();
-        if (time - getLastResized() < MIN_RESIZE_INTERVAL) return;
+        final JmeWindowState windowState = getWindowState();
 
-        final JmeContext jmeContext = getJmeContext();
+        final int winWidth = windowState.getWidth();
+        final int winHeight = windowState.getHeight();
 
-        final int winWidth = JmeWindowUtils.getWidth(jmeContext);
-        final int winHeight = JmeWindowUtils.getHeight(jmeContext);
-
-        final AsyncReadSyncWriteLock lock = getImageLock();
-        lock.syncLock();
         try {
 
             final int textureWidth = Math.max(winWidth, 64);
             final int textureHeight = Math.max(winHeight, 64);
 
-            final Picture picture = getPicture();
+            // small windows don't match the min scene size, so they shouldn't refit the scene every frame
+            if (textureWidth == getSceneWidth() && textureHeight == getSceneHeight()) {
+                return;
+            }
+
+            final JavaFxPicture picture = getPicture();
 
             if (LOGGER.isEnabled(LoggerLevel.DEBUG)) {
                 LOGGER.debug("Fit the scene to window size from [" + getSceneWidth() + "x" + getSceneHeight() + "] to " +
                                 "[" + textureWidth + "x" + textureHeight + "]");
             }
 
-            picture.setWidth(textureWidth);
-            picture.setHeight(textureHeight);
+            picture.setVisibleBounds(PixelRegion.of(0, 0, textureWidth, textureHeight), textureWidth, textureHeight);
 
-            final ByteBuffer fxData = getFxData();
-            if (fxData != null) {
-                BufferUtils.destroyDirectBuffer(fxData);
-            }
-
-            final ByteBuffer tempData = getTempData();
-            if (tempData != null) {
-                BufferUtils.destroyDirectBuffer(tempData);
-            }
+            // the streamer can copy pixels from the previous buffer, so it's finished before releasing it
+            disposePixelBufferStreamer();
 
-            final ByteBuffer jmeData = getJmeData();
-            if (jmeData != null) {
-                BufferUtils.destroyDirectBuffer(jmeData);
+            final PixelTripleBuffer prevPixelBuffer = getPixelBuffer();
+            if (prevPixelBuffer != null) {
+                // javaFX can write the current frame to the previous buffer, so it's released after that
+                JfxPlatform.runInFxThread(prevPixelBuffer::dispose);
             }
 
             final Image jmeImage = getJmeImage();
@@ -625,15 +628,21 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
                 jmeImage.dispose();
             }
 
-            this.fxData = BufferUtils.createByteBuffer(textureWidth * textureHeight * 4);
-            this.tempData = BufferUtils.createByteBuffer(textureWidth * textureHeight * 4);
-            this.tempIntData = getTempData().asIntBuffer();
-            this.jmeData = BufferUtils.createByteBuffer(textureWidth * textureHeight * 4);
-            this.jmeImage = new Image(nativeFormat.get(), textureWidth, textureHeight, getJmeData(), ColorSpace.sRGB);
+            final PixelTripleBuffer pixelBuffer = new PixelTripleBuffer(textureWidth, textureHeight);
+
+            this.pixelBuffer = pixelBuffer;
+            this.jmeImage = new Image(nativeFormat.get(), textureWidth, textureHeight,
+                    pixelBuffer.getReadBuffer(), ColorSpace.sRGB);
 
             final Texture2D texture = getTexture();
             texture.setImage(getJmeImage());
 
+            if (pictureMaterial != null) {
+                pictureMaterial.setBoolean("ArgbPixels", argbPixels);
+                pictureMaterial.getAdditionalRenderState()
+                        .setBlendMode(premultipliedPixels ? BlendMode.PremultAlpha : BlendMode.Alpha);
+            }
+
             setSceneHeight(textureHeight);
             setSceneWidth(textureWidth);
 
@@ -650,11 +659,7 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
 
         } catch (final Exception e) {
             LOGGER.warning(e);
-        } finally {
-            lock.syncUnlock();
         }
-
-        setLastResized(time);
     }
 
     @Override
@@ -672,8 +677,15 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
 
     private void initFx() {
         PlatformImpl.startup(() -> {
+
+            if (pictureMaterial != null) {
+                initShaderFormat();
+                return;
+            }
+
             switch (Pixels.getNativeFormat()) {
                 case Pixels.Format.BYTE_ARGB:
+                    argbPixels = true;
                     try {
                         nativeFormat.complete(Format.ARGB8);
                         reorderData = null;
@@ -697,30 +709,39 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
         });
     }
 
-    @Override
-    public boolean isCovered(final int x, final int y) {
-
-        final Image jmeImage = getJmeImage();
-        final int sceneWidth = getSceneWidth();
-
-        if (jmeImage == null || x < 0 || x >= sceneWidth) {
-            return false;
-        } else if (y < 0 || y >= getSceneHeight()) {
-            return false;
+    /**
+     * Init the format of the jME image to upload raw javaFX pixels and reorder their channels in shaders.
+     */
+    private void initShaderFormat() {
+        switch (Pixels.getNativeFormat()) {
+            case Pixels.Format.BYTE_ARGB:
+                argbPixels = true;
+                premultipliedPixels = false;
+                break;
+            case Pixels.Format.BYTE_BGRA_PRE:
+                argbPixels = false;
+                premultipliedPixels = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Not supported javaFX pixel format " + Pixels.getNativeFormat());
         }
 
-        final ByteBuffer data = jmeImage.getData(0);
-        data.limit(data.capacity());
+        reorderData = null;
+        nativeFormat.complete(Format.RGBA8);
+    }
 
-        final int alpha = data.get(3 + 4 * (y * sceneWidth + x));
+    @Override
+    public boolean isCovered(final int x, final int y) {
 
-        data.limit(0);
+        // the coverage mask is updated with every javaFX frame, so reading it doesn't touch the image data
+        final FrameDamageTracker damageTracker = this.damageTracker;
+        final boolean covered = damageTracker != null && damageTracker.getCoverageMask().isCovered(x, y);
 
         if (LOGGER.isEnabled(LoggerLevel.DEBUG)) {
-            LOGGER.debug("is covered " + x + ", " + y + " = " + (alpha != 0));
+            LOGGER.debug("is covered " + x + ", " + y + " = " + covered);
         }
 
-        return alpha != 0;
+        return covered;
     }
 
     @Override
@@ -744,7 +765,24 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
 
     @Override
     public boolean isNeedWriteToJme() {
-        return waitCount.get() > 0;
+
+        final PixelBufferStreamer pixelBufferStreamer = this.pixelBufferStreamer;
+        if (pixelBufferStreamer != null && pixelBufferStreamer.isUploading()) {
+            return true;
+        }
+
+        final PixelTripleBuffer pixelBuffer = getPixelBuffer();
+        return pixelBuffer != null && pixelBuffer.hasReadyFrame();
+    }
+
+    @Override
+    public @NotNull UploadMode getUploadMode() {
+        return uploadMode;
+    }
+
+    @Override
+    public void setUploadMode(@NotNull final UploadMode uploadMode) {
+        this.uploadMode = uploadMode;
     }
 
     /**
@@ -787,43 +825,49 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
         final EmbeddedSceneInterface sceneInterface = getSceneInterface();
         if (sceneInterface == null) return;
 
-        final ByteBuffer tempData = notNull(getTempData());
-        tempData.clear();
+        final PixelTripleBuffer pixelBuffer = getPixelBuffer();
+        if (pixelBuffer == null) return;
+
+        final int width = pixelBuffer.getWidth();
+        final int height = pixelBuffer.getHeight();
 
-        final int sceneWidth = getSceneWidth();
-        final int sceneHeight = getSceneHeight();
+        final IntBuffer writeIntBuffer = pixelBuffer.getWriteIntBuffer();
+        writeIntBuffer.clear();
 
-        if (!sceneInterface.getPixels(notNull(getTempIntData()), sceneWidth, sceneHeight)) {
+        if (!sceneInterface.getPixels(writeIntBuffer, width, height)) {
             return;
         }
 
-        tempData.flip();
-        tempData.limit(sceneWidth * sceneHeight * 4);
+        FrameDamageTracker damageTracker = this.damageTracker;
 
-        final AsyncReadSyncWriteLock imageLock = getImageLock();
-        imageLock.syncLock();
-        try {
+        if (damageTracker == null || damageTracker.getWidth() != width || damageTracker.getHeight() != height) {
 
-            final ByteBuffer fxData = notNull(getFxData());
-            fxData.clear();
-            fxData.put(tempData);
-            fxData.flip();
+            // the alpha offset is in bytes, but pixels are read as ints in the order of the buffer
+            final int alphaOffset = argbPixels ? 0 : 3;
+            final int alphaShift = writeIntBuffer.order() == ByteOrder.LITTLE_ENDIAN ?
+                    alphaOffset * 8 : (3 - alphaOffset) * 8;
 
-            final Function<ByteBuffer, Void> reorderData = getReorderData();
+            damageTracker = new FrameDamageTracker(width, height, alphaShift);
+            this.damageTracker = damageTracker;
+        }
 
-            if (reorderData != null) {
-                reorderData.apply(fxData);
-                fxData.position(0);
-            }
+        final long region = damageTracker.update(writeIntBuffer);
+
+        final ByteBuffer writeBuffer = pixelBuffer.getWriteBuffer();
+        writeBuffer.clear();
+        writeBuffer.limit(width * height * 4);
 
-        } catch (final Exception exc) {
-            LOGGER.warning(exc);
-        } finally {
-            imageLock.syncUnlock();
+        final Function<ByteBuffer, Void> reorderData = getReorderData();
+
+        if (reorderData != null) {
+            try {
+                reorderData.apply(writeBuffer);
+            } catch (final Exception exc) {
+                LOGGER.warning(exc);
+            }
         }
 
-        final AtomicInteger waitCount = getWaitCount();
-        waitCount.incrementAndGet();
+        pixelBuffer.publish(region, damageTracker.getCoveredBounds());
 
         if (LOGGER.isEnabled(LoggerLevel.DEBUG)) {
             LOGGER.debug("finished paint FX scene(" + (System.currentTimeMillis() - time) + "ms.).");
@@ -879,8 +923,8 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
     @Override
     public Void writeToJme() {
 
-        final AtomicInteger waitCount = getWaitCount();
-        final int currentCount = waitCount.get();
+        final PixelTripleBuffer pixelBuffer = getPixelBuffer();
+        if (pixelBuffer == null) return null;
 
         long time = 0;
 
@@ -889,23 +933,68 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
             LOGGER.debug("Started writing FX data to JME...");
         }
 
-        final ByteBuffer jmeData = notNull(getJmeData());
-        jmeData.clear();
+        final PixelBufferStreamer pixelBufferStreamer = preparePixelBufferStreamer(pixelBuffer);
 
-        final AsyncReadSyncWriteLock imageLock = getImageLock();
-        imageLock.syncLock();
-        try {
-            jmeData.put(notNull(getFxData()));
-        } finally {
-            imageLock.syncUnlock();
+        if (pixelBufferStreamer != null && pixelBufferStreamer.isUploading()) {
+
+            // the render thread doesn't wait for copying, the upload is finished on the next frame
+            if (!pixelBufferStreamer.isReadyToFinish()) {
+                return null;
+            }
+
+            finishStreamedUpload(pixelBufferStreamer);
         }
 
-        jmeData.flip();
+        if (!pixelBuffer.swap()) {
+            return null;
+        }
 
-        final Image jmeImage = notNull(getJmeImage());
-        jmeImage.setUpdateNeeded();
+        final int width = pixelBuffer.getWidth();
+        final int height = pixelBuffer.getHeight();
+        final long bounds = pixelBuffer.getReadBounds();
+        final long region;
+
+        // pixels outside of the visible bounds aren't drawn, so they aren't uploaded too,
+        // but the texture should be fully updated in the area which becomes visible
+        if (PixelRegion.contains(uploadedBounds, bounds)) {
+            region = PixelRegion.intersection(pixelBuffer.getReadRegion(), bounds);
+        } else {
+            region = bounds;
+        }
+
+        final ByteBuffer readBuffer = pixelBuffer.getReadBuffer();
+        readBuffer.clear();
+        readBuffer.limit(width * height * 4);
 
-        waitCount.subAndGet(currentCount);
+        final Image jmeImage = notNull(getJmeImage());
+        final int regionArea = PixelRegion.getWidth(region) * PixelRegion.getHeight(region);
+
+        final boolean needFullUpload = jmeImage.getId() == -1 || jmeImage.isUpdateNeeded();
+
+        if (needFullUpload || pixelBufferStreamer == null && regionArea >= width * height * FULL_UPLOAD_RATIO) {
+            // the image gets the new frame without copying
+            jmeImage.setData(0, readBuffer);
+            uploadedBounds = PixelRegion.of(0, 0, width, height);
+            picture.setVisibleBounds(bounds, width, height);
+        } else if (pixelBufferStreamer != null) {
+            // the read slot isn't swapped until finishing the upload, so it can be copied in the background
+            jmeImage.getData().set(0, readBuffer);
+            uploadedBounds = bounds;
+            if (regionArea > 0) {
+                streamedBounds = bounds;
+                pixelBufferStreamer.startUpload(readBuffer, region);
+            } else {
+                picture.setVisibleBounds(bounds, width, height);
+            }
+        } else {
+            // the texture already has the previous frame, so only the changed region is uploaded
+            jmeImage.getData().set(0, readBuffer);
+            uploadedBounds = bounds;
+            if (regionArea > 0) {
+                uploadRegion(readBuffer, width, region);
+            }
+            picture.setVisibleBounds(bounds, width, height);
+        }
 
         if (LOGGER.isEnabled(LoggerLevel.DEBUG)) {
             LOGGER.debug("Finished writing FX data to JME(" + (System.currentTimeMillis() - time) + "ms.).");
@@ -914,6 +1003,149 @@ public class JmeFxContainerImpl implements JmeFxContainer, JmeFxContainerInterna
         return null;
     }
 
+    /**
+     * Finish the started upload of the streamer and show the streamed frame in its visible bounds.
+     *
+     * @param pixelBufferStreamer the streamer.
+     */
+    private void finishStreamedUpload(@NotNull final PixelBufferStreamer pixelBufferStreamer) {
+
+        if (!pixelBufferStreamer.finishUpload(application.getRenderer(), getTexture())) {
+            notNull(getJmeImage()).setUpdateNeeded();
+            uploadedBounds = PixelRegion.of(0, 0, pixelBufferStreamer.getWidth(), pixelBufferStreamer.getHeight());
+        }
+
+        // the new bounds are shown only with the uploaded frame to not show stale pixels of the texture
+        picture.setVisibleBounds(streamedBounds, pixelBufferStreamer.getWidth(), pixelBufferStreamer.getHeight());
+    }
+
+    /**
+     * Prepare the streamer of javaFX frames according to the current upload mode.
+     *
+     * @param pixelBuffer the current triple buffer.
+     * @return the streamer or null if frames should be uploaded through jME image.
+     */
+    private @Nullable PixelBufferStreamer preparePixelBufferStreamer(@NotNull final PixelTripleBuffer pixelBuffer) {
+
+        final PixelBufferStreamer pixelBufferStreamer = this.pixelBufferStreamer;
+        final int pixelFormat = getStreamPixelFormat();
+
+        if (getUploadMode() != UploadMode.PIXEL_BUFFER_STREAMED || pixelFormat == -1 ||
+                !PixelBufferStreamer.isSupported()) {
+
+            // the started upload is finished to keep the texture consistent with the image
+            if (pixelBufferStreamer != null && pixelBufferStreamer.isUploading()) {
+                finishStreamedUpload(pixelBufferStreamer);
+            }
+
+            disposePixelBufferStreamer();
+            return null;
+        }
+
+        if (pixelBufferStreamer != null && pixelBufferStreamer.getWidth() == pixelBuffer.getWidth() &&
+                pixelBufferStreamer.getHeight() == pixelBuffer.getHeight()) {
+            return pixelBufferStreamer;
+        }
+
+        disposePixelBufferStreamer();
+
+        final PixelBufferStreamer newPixelBufferStreamer =
+                new PixelBufferStreamer(pixelBuffer.getWidth(), pixelBuffer.getHeight(), pixelFormat);
+
+        this.pixelBufferStreamer = newPixelBufferStreamer;
+        return newPixelBufferStreamer;
+    }
+
+    /**
+     * Gets the GL format of pixels of jME image to stream them.
+     *
+     * @return the GL format or -1 if pixels of jME image can't be streamed.
+     */
+    private int getStreamPixelFormat() {
+
+        final Image jmeImage = getJmeImage();
+        if (jmeImage == null) return -1;
+
+        switch (jmeImage.getFormat()) {
+            case RGBA8:
+                return GL11.GL_RGBA;
+            case BGRA8:
+                return GL12.GL_BGRA;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Dispose the current streamer of javaFX frames.
+     */
+    private void disposePixelBufferStreamer() {
+
+        final PixelBufferStreamer pixelBufferStreamer = this.pixelBufferStreamer;
+
+        if (pixelBufferStreamer != null) {
+            this.pixelBufferStreamer = null;
+            pixelBufferStreamer.dispose();
+        }
+    }
+
+    /**
+     * Upload the changed region of the frame to the texture.
+     *
+     * @param frame  the pixels of the frame.
+     * @param width  the width of the frame.
+     * @param region the packed changed region.
+     */
+    private void uploadRegion(@NotNull final ByteBuffer frame, final int width, final long region) {
+
+        final int minX = PixelRegion.getMinX(region);
+        final int minY = PixelRegion.getMinY(region);
+        final int regionWidth = PixelRegion.getWidth(region);
+        final int regionHeight = PixelRegion.getHeight(region);
+        final int dataSize = regionWidth * regionHeight * 4;
+
+        ByteBuffer regionData = this.regionData;
+
+        if (regionData == null || regionData.capacity() < dataSize) {
+
+            if (regionData != null) {
+                BufferUtils.destroyDirectBuffer(regionData);
+            }
+
+            regionData = BufferUtils.createByteBuffer(dataSize);
+            this.regionData = regionData;
+        }
+
+        regionData.clear();
+
+        final ByteBuffer row = frame.duplicate();
+
+        for (int y = minY, last = minY + regionHeight; y < last; y++) {
+            final int offset = (y * width + minX) * 4;
+            row.limit(offset + regionWidth * 4);
+            row.position(offset);
+            regionData.put(row);
+        }
+
+        regionData.flip();
+
+        final Image jmeImage = notNull(getJmeImage());
+
+        Image regionImage = this.regionImage;
+
+        if (regionImage == null) {
+            regionImage = new Image(jmeImage.getFormat(), regionWidth, regionHeight, regionData, ColorSpace.sRGB);
+            this.regionImage = regionImage;
+        } else {
+            regionImage.setFormat(jmeImage.getFormat());
+            regionImage.setWidth(regionWidth);
+            regionImage.setHeight(regionHeight);
+            regionImage.setData(0, regionData);
+        }
+
+        application.getRenderer().modifyTexture(getTexture(), regionImage, minX, minY);
+    }
+
     @Override
     public void requestEnabled(final boolean enabled) {
         this.enabled = enabled;
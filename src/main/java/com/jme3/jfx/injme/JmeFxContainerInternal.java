@@ -2,6 +2,7 @@ package com.jme3.jfx.injme;
 
 import com.jme3.app.Application;
 import com.jme3.jfx.injme.input.JmeFXInputListener;
+import com.jme3.jfx.injme.util.JmeWindowState;
 import com.jme3.system.JmeContext;
 import com.sun.javafx.cursor.CursorFrame;
 import com.sun.javafx.embed.EmbeddedSceneInterface;
@@ -151,6 +152,20 @@ public interface JmeFxContainerInternal extends JmeFxContainer {
      */
     void setStageInterface(@Nullable EmbeddedStageInterface stageInterface);
 
+    /**
+     * Gets the cached size and position of jME window.
+     *
+     * @return the window state.
+     */
+    @NotNull JmeWindowState getWindowState();
+
+    /**
+     * Checks of settling the size of jME window after resizing.
+     *
+     * @return true if the scene can be fitted to the current window size.
+     */
+    boolean isWindowSizeSettled();
+
     /**
      * Fit scene to window size.
      */
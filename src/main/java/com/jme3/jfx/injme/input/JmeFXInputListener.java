@@ -44,16 +44,10 @@ public class JmeFXInputListener implements RawInputListener {
     private final BitSet keyStateSet;
 
     /**
-     * The key char array.
+     * The table of chars of pressed keys.
      */
     @NotNull
-    private final char[][] keyCharArray;
-
-    /**
-     * The key char set.
-     */
-    @NotNull
-    private final char[] keyCharSet;
+    private final KeyCharTable keyCharTable;
 
     /**
      * The mouse button states.
@@ -73,16 +67,31 @@ public class JmeFXInputListener implements RawInputListener {
     @Nullable
     private volatile JmeFxDnDHandler dndHandler;
 
+    /**
+     * The flag of covering the position of the last mouse motion by javaFX content.
+     */
+    private boolean lastMotionCovered;
+
+    /**
+     * The batch of mouse events to dispatch them to javaFX.
+     */
+    @NotNull
+    private final MouseEventBatch mouseEventBatch;
+
+    /**
+     * The task to dispatch the batch of mouse events in javaFX thread.
+     */
+    @NotNull
+    private final Runnable dispatchMouseEvents;
+
     public JmeFXInputListener(@NotNull final JmeFxContainerInternal container) {
         this.container = container;
         this.keyStateSet = new BitSet(0xFF);
-        this.keyCharSet = new char[Character.MAX_CODE_POINT];
+        this.keyCharTable = new KeyCharTable();
         this.mouseButtonState = new boolean[3];
-        this.keyCharArray = new char[Character.MAX_CODE_POINT][];
-
-        for (int i = 0, length = keyCharArray.length; i < length; i++) {
-            keyCharArray[i] = new char[]{(char) i};
-        }
+        this.lastMotionCovered = true;
+        this.mouseEventBatch = new MouseEventBatch();
+        this.dispatchMouseEvents = this::dispatchMouseEvents;
     }
 
     /**
@@ -125,21 +134,12 @@ public class JmeFXInputListener implements RawInputListener {
     }
 
     /**
-     * Gets the key char array.
-     *
-     * @return the key char array.
-     */
-    private @NotNull char[][] getKeyCharArray() {
-        return keyCharArray;
-    }
-
-    /**
-     * Gets the key char set.
+     * Gets the table of chars of pressed keys.
      *
-     * @return the key char set.
+     * @return the table of chars of pressed keys.
      */
-    private @NotNull char[] getKeyCharSet() {
-        return keyCharSet;
+    private @NotNull KeyCharTable getKeyCharTable() {
+        return keyCharTable;
     }
 
     /**
@@ -184,8 +184,7 @@ public class JmeFXInputListener implements RawInputListener {
 
         final BitSet keyStateSet = getKeyStateSet();
 
-        final char[][] keyCharArray = getKeyCharArray();
-        final char[] keyCharSet = getKeyCharSet();
+        final KeyCharTable keyCharTable = getKeyCharTable();
         final char keyChar = event.getKeyChar();
 
         final int keyCode = event.getKeyCode();
@@ -194,7 +193,7 @@ public class JmeFXInputListener implements RawInputListener {
 
         final int keyState = retrieveKeyState();
 
-        if (fxKeyCode > keyCharSet.length) {
+        if (fxKeyCode > KeyCharTable.MAX_KEY_CODE) {
             switch (keyChar) {
                 case '\\': {
                     fxKeyCode = KeyEvent.VK_BACK_SLASH;
@@ -212,30 +211,31 @@ public class JmeFXInputListener implements RawInputListener {
 
         if (event.isRepeating()) {
 
-            final char x = keyCharSet[fxKeyCode];
+            final char x = keyCharTable.getKeyChar(fxKeyCode);
 
             if (container.isFocused()) {
-                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_TYPED, fxKeyCode, keyCharArray[x], keyState);
+                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_TYPED, fxKeyCode, keyCharTable.toArray(x), keyState);
             }
 
         } else if (event.isPressed()) {
 
-            keyCharSet[fxKeyCode] = keyChar;
+            keyCharTable.setKeyChar(fxKeyCode, keyChar);
             keyStateSet.set(fxKeyCode);
 
             if (container.isFocused()) {
-                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_PRESSED, fxKeyCode, keyCharArray[keyChar], keyState);
-                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_TYPED, fxKeyCode, keyCharArray[keyChar], keyState);
+                final char[] keyChars = keyCharTable.toArray(keyChar);
+                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_PRESSED, fxKeyCode, keyChars, keyState);
+                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_TYPED, fxKeyCode, keyChars, keyState);
             }
 
         } else {
 
-            final char x = keyCharSet[fxKeyCode];
+            final char x = keyCharTable.getKeyChar(fxKeyCode);
 
             keyStateSet.clear(fxKeyCode);
 
             if (container.isFocused()) {
-                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_RELEASED, fxKeyCode, keyCharArray[x], keyState);
+                sceneInterface.keyEvent(AbstractEvents.KEYEVENT_RELEASED, fxKeyCode, keyCharTable.toArray(x), keyState);
             }
         }
     }
@@ -300,42 +300,12 @@ public class JmeFXInputListener implements RawInputListener {
             return;
         }
 
-        if (inputManager.isCursorVisible() || event.isReleased()) {
-            JfxPlatform.runInFxThread(() -> onMouseButtonEventImpl(x, y, button, type));
+        if ((inputManager.isCursorVisible() || event.isReleased()) &&
+                mouseEventBatch.addEvent(type, button, getMouseButtons(), x, y, 0)) {
+            JfxPlatform.runInFxThread(dispatchMouseEvents);
         }
     }
 
-    private void onMouseButtonEventImpl(final int x, final int y, final int button, final int type) {
-
-        final boolean[] mouseButtonState = getMouseButtonState();
-        final JmeFxDnDHandler dndHandler = getDNDHandler();
-
-        final boolean primaryBtnDown = mouseButtonState[0];
-        final boolean middleBtnDown = mouseButtonState[1];
-        final boolean secondaryBtnDown = mouseButtonState[2];
-
-        if (dndHandler != null) {
-            dndHandler.mouseUpdate(x, y, primaryBtnDown);
-        }
-
-        final JmeFxContainerInternal container = getContainer();
-        final EmbeddedSceneInterface sceneInterface = requireNonNull(container.getSceneInterface());
-
-        final int screenX = container.getPositionX() + x;
-        final int screenY = container.getPositionY() + y;
-
-        final BitSet keyStateSet = getKeyStateSet();
-
-        final boolean shift = keyStateSet.get(KeyEvent.VK_SHIFT);
-        final boolean ctrl = keyStateSet.get(KeyEvent.VK_CONTROL);
-        final boolean alt = keyStateSet.get(KeyEvent.VK_ALT);
-        final boolean meta = keyStateSet.get(KeyEvent.VK_META);
-        final boolean popupTrigger = button == AbstractEvents.MOUSEEVENT_SECONDARY_BUTTON;
-
-        sceneInterface.mouseEvent(type, button, primaryBtnDown, middleBtnDown, secondaryBtnDown, false, false, x, y,
-                screenX, screenY, shift, ctrl, alt, meta, popupTrigger);
-    }
-
     @Override
     public void onMouseMotionEvent(@NotNull final MouseMotionEvent event) {
 
@@ -384,36 +354,88 @@ public class JmeFXInputListener implements RawInputListener {
             button = AbstractEvents.MOUSEEVENT_MIDDLE_BUTTON;
         }
 
-        final int finalType = type;
-        final int finalButton = button;
+        // javaFX needs only the first motion outside of its content to finish hovering
+        final boolean needDispatch = covered || lastMotionCovered || type != AbstractEvents.MOUSEEVENT_MOVED;
+
+        lastMotionCovered = covered;
+
+        if (!needDispatch || !inputManager.isCursorVisible()) {
+            return;
+        }
+
+        // wheel rotations are kept in order, but only the latest motion is dispatched
+        final boolean needSchedule = wheelRotation != 0 ?
+                mouseEventBatch.addEvent(type, button, getMouseButtons(), x, y, wheelRotation) :
+                mouseEventBatch.addMotion(type, button, getMouseButtons(), x, y);
 
-        if (inputManager.isCursorVisible()) {
-            JfxPlatform.runInFxThread(() -> onMouseMotionEventImpl(x, y, wheelRotation, finalType, finalButton));
+        if (needSchedule) {
+            JfxPlatform.runInFxThread(dispatchMouseEvents);
         }
     }
 
-    private void onMouseMotionEventImpl(int x, int y, int wheelRotation, int type, int button) {
+    /**
+     * Get the current states of mouse buttons.
+     *
+     * @return the bit mask of pressed mouse buttons.
+     */
+    private int getMouseButtons() {
+
+        final boolean[] mouseButtonState = getMouseButtonState();
+
+        int buttons = 0;
+
+        for (int i = 0; i < mouseButtonState.length; i++) {
+            if (mouseButtonState[i]) {
+                buttons |= 1 << i;
+            }
+        }
+
+        return buttons;
+    }
+
+    /**
+     * Dispatch all batched mouse events to javaFX.
+     */
+    private void dispatchMouseEvents() {
+
+        final int count = mouseEventBatch.take();
+        final int[] records = mouseEventBatch.getDispatching();
+
+        for (int i = 0; i < count; i++) {
+            final int offset = i * MouseEventBatch.RECORD_SIZE;
+            dispatchMouseEvent(records[offset + MouseEventBatch.FIELD_TYPE],
+                    records[offset + MouseEventBatch.FIELD_BUTTON], records[offset + MouseEventBatch.FIELD_BUTTONS],
+                    records[offset + MouseEventBatch.FIELD_X], records[offset + MouseEventBatch.FIELD_Y],
+                    records[offset + MouseEventBatch.FIELD_WHEEL_ROTATION]);
+        }
+    }
+
+    private void dispatchMouseEvent(final int type, final int button, final int buttons, final int x, final int y,
+                                    final int wheelRotation) {
 
         final JmeFxContainerInternal container = getContainer();
         final Application application = notNull(container.getApplication());
         final InputManager inputManager = application.getInputManager();
 
-        if (!inputManager.isCursorVisible()) {
+        final boolean pressedOrReleased = type == AbstractEvents.MOUSEEVENT_PRESSED ||
+                type == AbstractEvents.MOUSEEVENT_RELEASED;
+
+        if (!pressedOrReleased && !inputManager.isCursorVisible()) {
             return;
         }
 
         final JmeFxDnDHandler dndHandler = getDNDHandler();
-        final boolean[] mouseButtonState = getMouseButtonState();
 
-        final boolean primaryBtnDown = mouseButtonState[0];
-        final boolean middleBtnDown = mouseButtonState[1];
-        final boolean secondaryBtnDown = mouseButtonState[2];
+        final boolean primaryBtnDown = (buttons & 0b001) != 0;
+        final boolean middleBtnDown = (buttons & 0b010) != 0;
+        final boolean secondaryBtnDown = (buttons & 0b100) != 0;
 
         if (dndHandler != null) {
             dndHandler.mouseUpdate(x, y, primaryBtnDown);
         }
 
-        final EmbeddedSceneInterface sceneInterface = notNull(container.getSceneInterface());
+        final EmbeddedSceneInterface sceneInterface = container.getSceneInterface();
+        if (sceneInterface == null) return;
 
         final int screenX = container.getPositionX() + x;
         final int screenY = container.getPositionY() + y;
@@ -424,9 +446,17 @@ public class JmeFXInputListener implements RawInputListener {
         final boolean ctrl = keyStateSet.get(KeyEvent.VK_CONTROL);
         final boolean alt = keyStateSet.get(KeyEvent.VK_ALT);
         final boolean meta = keyStateSet.get(KeyEvent.VK_META);
+        final boolean popupTrigger = pressedOrReleased && button == AbstractEvents.MOUSEEVENT_SECONDARY_BUTTON;
+
+        if (type == AbstractEvents.MOUSEEVENT_VERTICAL_WHEEL) {
+            // the same scrolling as JFXPanel does for AWT wheel rotations
+            sceneInterface.scrollEvent(type, 0, -wheelRotation, 0, 0, 40, 40, x, y, screenX, screenY,
+                    shift, ctrl, alt, meta, false);
+            return;
+        }
 
         sceneInterface.mouseEvent(type, button, primaryBtnDown, middleBtnDown, secondaryBtnDown, false, false, x, y,
-                screenX, screenY, shift, ctrl, alt, meta, false);
+                screenX, screenY, shift, ctrl, alt, meta, popupTrigger);
     }
 
     @Override
@@ -0,0 +1,93 @@
+package com.jme3.jfx.injme.input;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The compact table of chars of pressed keys. Chars are stored in pages of {@link #PAGE_SIZE} key codes
+ * and single char arrays are created only for chars which are actually used, so the table takes memory
+ * only for keys and chars which were seen.
+ *
+ * @author JavaSaBr
+ */
+final class KeyCharTable {
+
+    /**
+     * The max supported key code.
+     */
+    static final int MAX_KEY_CODE = Character.MAX_CODE_POINT;
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    /**
+     * The pages of chars by key codes.
+     */
+    @NotNull
+    private final char[][] keyChars;
+
+    /**
+     * The pages of single char arrays by chars.
+     */
+    @NotNull
+    private final char[][][] charArrays;
+
+    KeyCharTable() {
+        this.keyChars = new char[(MAX_KEY_CODE >> PAGE_SHIFT) + 1][];
+        this.charArrays = new char[(Character.MAX_VALUE >> PAGE_SHIFT) + 1][][];
+    }
+
+    /**
+     * Gets the char of the key.
+     *
+     * @param keyCode the key code.
+     * @return the last char of the key or 0.
+     */
+    char getKeyChar(final int keyCode) {
+        final char[] page = keyChars[keyCode >> PAGE_SHIFT];
+        return page == null ? 0 : page[keyCode & PAGE_MASK];
+    }
+
+    /**
+     * Sets the char of the key.
+     *
+     * @param keyCode the key code.
+     * @param keyChar the char of the key.
+     */
+    void setKeyChar(final int keyCode, final char keyChar) {
+
+        char[] page = keyChars[keyCode >> PAGE_SHIFT];
+
+        if (page == null) {
+            page = new char[PAGE_SIZE];
+            keyChars[keyCode >> PAGE_SHIFT] = page;
+        }
+
+        page[keyCode & PAGE_MASK] = keyChar;
+    }
+
+    /**
+     * Gets the single char array of the char.
+     *
+     * @param keyChar the char.
+     * @return the reused array which contains only the char.
+     */
+    @NotNull char[] toArray(final char keyChar) {
+
+        char[][] page = charArrays[keyChar >> PAGE_SHIFT];
+
+        if (page == null) {
+            page = new char[PAGE_SIZE][];
+            charArrays[keyChar >> PAGE_SHIFT] = page;
+        }
+
+        char[] array = page[keyChar & PAGE_MASK];
+
+        if (array == null) {
+            array = new char[]{keyChar};
+            page[keyChar & PAGE_MASK] = array;
+        }
+
+        return array;
+    }
+}
@@ -0,0 +1,171 @@
+package com.jme3.jfx.injme.input;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The batch of mouse events from jME thread to javaFX thread. Motion events are coalesced to the latest one,
+ * other events are kept in order, and a motion is placed before an event which follows it. So javaFX gets
+ * one motion per batch at most between other events.
+ * <p>
+ * Events are stored as records of ints, the batch is swapped with the dispatched records by javaFX thread.
+ *
+ * @author JavaSaBr
+ */
+final class MouseEventBatch {
+
+    static final int FIELD_TYPE = 0;
+    static final int FIELD_BUTTON = 1;
+    static final int FIELD_BUTTONS = 2;
+    static final int FIELD_X = 3;
+    static final int FIELD_Y = 4;
+    static final int FIELD_WHEEL_ROTATION = 5;
+    static final int RECORD_SIZE = 6;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The latest motion event.
+     */
+    @NotNull
+    private final int[] motion;
+
+    /**
+     * The records of events to dispatch.
+     */
+    @NotNull
+    private int[] records;
+
+    /**
+     * The records of dispatching events, are used only in javaFX thread.
+     */
+    @NotNull
+    private int[] dispatching;
+
+    /**
+     * The count of records to dispatch.
+     */
+    private int count;
+
+    /**
+     * The flag of having the latest motion event.
+     */
+    private boolean hasMotion;
+
+    /**
+     * The flag of scheduling dispatching of this batch.
+     */
+    private boolean scheduled;
+
+    MouseEventBatch() {
+        this.motion = new int[RECORD_SIZE];
+        this.records = new int[INITIAL_CAPACITY * RECORD_SIZE];
+        this.dispatching = new int[INITIAL_CAPACITY * RECORD_SIZE];
+    }
+
+    /**
+     * Set the latest motion event.
+     *
+     * @return true if dispatching of this batch should be scheduled.
+     */
+    synchronized boolean addMotion(final int type, final int button, final int buttons, final int x, final int y) {
+        fill(motion, 0, type, button, buttons, x, y, 0);
+        hasMotion = true;
+        return schedule();
+    }
+
+    /**
+     * Add the event after the latest motion event.
+     *
+     * @return true if dispatching of this batch should be scheduled.
+     */
+    synchronized boolean addEvent(
+            final int type,
+            final int button,
+            final int buttons,
+            final int x,
+            final int y,
+            final int wheelRotation
+    ) {
+        flushMotion();
+        ensureCapacity();
+        fill(records, count++ * RECORD_SIZE, type, button, buttons, x, y, wheelRotation);
+        return schedule();
+    }
+
+    /**
+     * Take all events of this batch to dispatch them, should be called only in javaFX thread.
+     *
+     * @return the count of taken records.
+     * @see #getDispatching()
+     */
+    synchronized int take() {
+        flushMotion();
+
+        final int[] taken = records;
+
+        records = dispatching;
+        dispatching = taken;
+        scheduled = false;
+
+        final int result = count;
+        count = 0;
+
+        return result;
+    }
+
+    /**
+     * Get the records which were taken by the last {@link #take()}, should be called only in javaFX thread.
+     *
+     * @return the taken records.
+     */
+    @NotNull int[] getDispatching() {
+        return dispatching;
+    }
+
+    private boolean schedule() {
+
+        if (scheduled) {
+            return false;
+        }
+
+        scheduled = true;
+        return true;
+    }
+
+    private void flushMotion() {
+
+        if (!hasMotion) {
+            return;
+        }
+
+        ensureCapacity();
+        System.arraycopy(motion, 0, records, count++ * RECORD_SIZE, RECORD_SIZE);
+        hasMotion = false;
+    }
+
+    private void ensureCapacity() {
+        if ((count + 1) * RECORD_SIZE > records.length) {
+            records = Arrays.copyOf(records, records.length * 2);
+        }
+    }
+
+    private static void fill(
+            @NotNull final int[] target,
+            final int offset,
+            final int type,
+            final int button,
+            final int buttons,
+            final int x,
+            final int y,
+            final int wheelRotation
+    ) {
+        target[offset + FIELD_TYPE] = type;
+        target[offset + FIELD_BUTTON] = button;
+        target[offset + FIELD_BUTTONS] = buttons;
+        target[offset + FIELD_X] = x;
+        target[offset + FIELD_Y] = y;
+        target[offset + FIELD_WHEEL_ROTATION] = wheelRotation;
+    }
+}
@@ -0,0 +1,120 @@
+package com.jme3.jfx.injme.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.IntBuffer;
+
+/**
+ * The mask of pixels which are covered by non transparent content of a frame. Every bit of the mask
+ * presents a pixel and every int presents a row of {@link Integer#SIZE} pixels, so the mask can be updated
+ * by columns of this width in one thread and be read in other threads without locking.
+ *
+ * @author JavaSaBr
+ */
+public class CoverageMask {
+
+    /**
+     * The width of a column of pixels which are presented by one int.
+     */
+    public static final int COLUMN_WIDTH = Integer.SIZE;
+
+    /**
+     * The bits of covered pixels.
+     */
+    @NotNull
+    private final int[] bits;
+
+    /**
+     * The width of frames.
+     */
+    private final int width;
+
+    /**
+     * The height of frames.
+     */
+    private final int height;
+
+    /**
+     * The count of columns.
+     */
+    private final int columns;
+
+    /**
+     * The shift of the alpha channel in an int of pixel.
+     */
+    private final int alphaShift;
+
+    /**
+     * Create a new mask.
+     *
+     * @param width      the width of frames.
+     * @param height     the height of frames.
+     * @param alphaShift the shift of the alpha channel in an int of pixel.
+     */
+    public CoverageMask(final int width, final int height, final int alphaShift) {
+        this.width = width;
+        this.height = height;
+        this.alphaShift = alphaShift;
+        this.columns = (width + COLUMN_WIDTH - 1) / COLUMN_WIDTH;
+        this.bits = new int[columns * height];
+    }
+
+    /**
+     * Checks of covering the pixel.
+     *
+     * @param x the X coordinate.
+     * @param y the Y coordinate.
+     * @return true if the pixel is covered, false if it's transparent or is outside of the mask.
+     */
+    public boolean isCovered(final int x, final int y) {
+
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+
+        return (bits[y * columns + x / COLUMN_WIDTH] & (1 << (x % COLUMN_WIDTH))) != 0;
+    }
+
+    /**
+     * Update the mask in the area of the frame, the area should be aligned by {@link #COLUMN_WIDTH}
+     * horizontally or should end on the right edge of the frame.
+     *
+     * @param pixels the pixels of the frame.
+     * @param fromX  the min X of the area.
+     * @param fromY  the min Y of the area.
+     * @param toX    the max X of the area (exclusive).
+     * @param toY    the max Y of the area (exclusive).
+     * @return true if there is at least one covered pixel in the area.
+     */
+    public boolean update(
+            @NotNull final IntBuffer pixels,
+            final int fromX,
+            final int fromY,
+            final int toX,
+            final int toY
+    ) {
+
+        boolean covered = false;
+
+        for (int y = fromY; y < toY; y++) {
+            for (int columnX = fromX; columnX < toX; columnX += COLUMN_WIDTH) {
+
+                final int lastX = Math.min(columnX + COLUMN_WIDTH, toX);
+                final int offset = y * width;
+
+                int column = 0;
+
+                for (int x = columnX; x < lastX; x++) {
+                    if (((pixels.get(offset + x) >>> alphaShift) & 0xFF) != 0) {
+                        column |= 1 << (x - columnX);
+                    }
+                }
+
+                bits[y * columns + columnX / COLUMN_WIDTH] = column;
+                covered |= column != 0;
+            }
+        }
+
+        return covered;
+    }
+}
@@ -0,0 +1,206 @@
+package com.jme3.jfx.injme.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.IntBuffer;
+
+/**
+ * The tracker of changed regions between frames. Frames are split to tiles and only hashes of tiles
+ * of the previous frame are kept, so the tracker doesn't need to have the previous frame itself.
+ * The coverage mask and the bounds of covered tiles of frames are updated by the same pass.
+ *
+ * @author JavaSaBr
+ */
+public class FrameDamageTracker {
+
+    /**
+     * The size of a tile in pixels.
+     */
+    public static final int TILE_SIZE = 32;
+
+    private static final long HASH_SEED = 0xCBF29CE484222325L;
+    private static final long HASH_PRIME = 0x100000001B3L;
+
+    /**
+     * The hashes of tiles of the previous frame.
+     */
+    @NotNull
+    private final long[] tileHashes;
+
+    /**
+     * The coverage mask of the last frame.
+     */
+    @NotNull
+    private final CoverageMask coverageMask;
+
+    /**
+     * The flags of having covered pixels in tiles of the previous frame.
+     */
+    @NotNull
+    private final boolean[] coveredTiles;
+
+    /**
+     * The width of frames.
+     */
+    private final int width;
+
+    /**
+     * The height of frames.
+     */
+    private final int height;
+
+    /**
+     * The count of tile columns.
+     */
+    private final int columns;
+
+    /**
+     * The count of tile rows.
+     */
+    private final int rows;
+
+    /**
+     * The flag of having the previous frame.
+     */
+    private boolean hasPrevFrame;
+
+    /**
+     * The packed bounds of covered tiles of the last frame.
+     */
+    private long coveredBounds;
+
+    /**
+     * Create a new tracker.
+     *
+     * @param width      the width of frames.
+     * @param height     the height of frames.
+     * @param alphaShift the shift of the alpha channel in an int of pixel.
+     */
+    public FrameDamageTracker(final int width, final int height, final int alphaShift) {
+        this.coverageMask = new CoverageMask(width, height, alphaShift);
+        this.width = width;
+        this.height = height;
+        this.columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+        this.rows = (height + TILE_SIZE - 1) / TILE_SIZE;
+        this.tileHashes = new long[columns * rows];
+        this.coveredTiles = new boolean[columns * rows];
+    }
+
+    /**
+     * @return the width of frames.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of frames.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the coverage mask of the last frame, the mask can be read in any thread.
+     *
+     * @return the coverage mask.
+     */
+    public @NotNull CoverageMask getCoverageMask() {
+        return coverageMask;
+    }
+
+    /**
+     * Gets the bounds of covered tiles of the last frame, pixels outside of them are transparent.
+     *
+     * @return the packed bounds.
+     * @see PixelRegion
+     */
+    public long getCoveredBounds() {
+        return coveredBounds;
+    }
+
+    /**
+     * Compare the new frame with the previous one and remember it.
+     *
+     * @param pixels the pixels of the new frame.
+     * @return the packed changed region, the first frame is changed fully.
+     * @see PixelRegion
+     */
+    public long update(@NotNull final IntBuffer pixels) {
+
+        int minColumn = columns;
+        int minRow = rows;
+        int maxColumn = -1;
+        int maxRow = -1;
+
+        for (int row = 0; row < rows; row++) {
+
+            final int fromY = row * TILE_SIZE;
+            final int toY = Math.min(fromY + TILE_SIZE, height);
+
+            for (int column = 0; column < columns; column++) {
+
+                final int fromX = column * TILE_SIZE;
+                final int toX = Math.min(fromX + TILE_SIZE, width);
+
+                long hash = HASH_SEED;
+
+                for (int y = fromY; y < toY; y++) {
+                    for (int x = fromX, offset = y * width + fromX; x < toX; x++, offset++) {
+                        hash = (hash ^ pixels.get(offset)) * HASH_PRIME;
+                    }
+                }
+
+                final int index = row * columns + column;
+
+                if (hasPrevFrame && tileHashes[index] == hash) {
+                    continue;
+                }
+
+                tileHashes[index] = hash;
+                coveredTiles[index] = coverageMask.update(pixels, fromX, fromY, toX, toY);
+
+                minColumn = Math.min(minColumn, column);
+                minRow = Math.min(minRow, row);
+                maxColumn = Math.max(maxColumn, column);
+                maxRow = Math.max(maxRow, row);
+            }
+        }
+
+        hasPrevFrame = true;
+        coveredBounds = calcCoveredBounds();
+
+        if (maxColumn < 0) {
+            return PixelRegion.EMPTY;
+        }
+
+        return PixelRegion.of(minColumn * TILE_SIZE, minRow * TILE_SIZE,
+                Math.min((maxColumn + 1) * TILE_SIZE, width), Math.min((maxRow + 1) * TILE_SIZE, height));
+    }
+
+    private long calcCoveredBounds() {
+
+        int minColumn = columns;
+        int minRow = rows;
+        int maxColumn = -1;
+        int maxRow = -1;
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (coveredTiles[row * columns + column]) {
+                    minColumn = Math.min(minColumn, column);
+                    minRow = Math.min(minRow, row);
+                    maxColumn = Math.max(maxColumn, column);
+                    maxRow = Math.max(maxRow, row);
+                }
+            }
+        }
+
+        if (maxColumn < 0) {
+            return PixelRegion.EMPTY;
+        }
+
+        return PixelRegion.of(minColumn * TILE_SIZE, minRow * TILE_SIZE,
+                Math.min((maxColumn + 1) * TILE_SIZE, width), Math.min((maxRow + 1) * TILE_SIZE, height));
+    }
+}
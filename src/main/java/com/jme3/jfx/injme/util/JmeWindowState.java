@@ -0,0 +1,154 @@
+package com.jme3.jfx.injme.util;
+
+import com.jme3.system.JmeContext;
+import com.jme3.system.lwjgl.LwjglWindow;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWWindowPosCallback;
+import org.lwjgl.glfw.GLFWWindowPosCallbackI;
+import org.lwjgl.glfw.GLFWWindowSizeCallback;
+import org.lwjgl.glfw.GLFWWindowSizeCallbackI;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The cached size and position of a jME window which are updated by GLFW callbacks, so they can be read
+ * in any thread without native calls. Previously installed callbacks of the window are still notified.
+ * <p>
+ * The state should be created and disposed in jME thread.
+ *
+ * @author JavaSaBr
+ */
+public class JmeWindowState {
+
+    /**
+     * The packed width and height of the window.
+     */
+    @NotNull
+    private final AtomicLong size;
+
+    /**
+     * The packed X and Y positions of the window.
+     */
+    @NotNull
+    private final AtomicLong position;
+
+    /**
+     * The handle of the window.
+     */
+    private final long windowHandle;
+
+    /**
+     * The callback to listen resizing of the window.
+     */
+    @NotNull
+    private final GLFWWindowSizeCallback sizeCallback;
+
+    /**
+     * The callback to listen moving of the window.
+     */
+    @NotNull
+    private final GLFWWindowPosCallback positionCallback;
+
+    /**
+     * The previous callback to listen resizing of the window.
+     */
+    @Nullable
+    private final GLFWWindowSizeCallback prevSizeCallback;
+
+    /**
+     * The previous callback to listen moving of the window.
+     */
+    @Nullable
+    private final GLFWWindowPosCallback prevPositionCallback;
+
+    /**
+     * The time of the last resizing of the window in nanoseconds.
+     */
+    private volatile long lastResizeTime;
+
+    public JmeWindowState(@NotNull final JmeContext context) {
+        this.windowHandle = ((LwjglWindow) context).getWindowHandle();
+        this.size = new AtomicLong(pack(JmeWindowUtils.getWidth(context), JmeWindowUtils.getHeight(context)));
+        this.position = new AtomicLong(pack(JmeWindowUtils.getX(context), JmeWindowUtils.getY(context)));
+        this.lastResizeTime = System.nanoTime();
+        this.sizeCallback = GLFWWindowSizeCallback.create(this::onResize);
+        this.positionCallback = GLFWWindowPosCallback.create(this::onMove);
+        this.prevSizeCallback = GLFW.glfwSetWindowSizeCallback(windowHandle, sizeCallback);
+        this.prevPositionCallback = GLFW.glfwSetWindowPosCallback(windowHandle, positionCallback);
+    }
+
+    private static long pack(final int first, final int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    private void onResize(final long window, final int width, final int height) {
+
+        size.set(pack(width, height));
+        lastResizeTime = System.nanoTime();
+
+        final GLFWWindowSizeCallbackI prevSizeCallback = this.prevSizeCallback;
+        if (prevSizeCallback != null) {
+            prevSizeCallback.invoke(window, width, height);
+        }
+    }
+
+    private void onMove(final long window, final int x, final int y) {
+
+        position.set(pack(x, y));
+
+        final GLFWWindowPosCallbackI prevPositionCallback = this.prevPositionCallback;
+        if (prevPositionCallback != null) {
+            prevPositionCallback.invoke(window, x, y);
+        }
+    }
+
+    /**
+     * @return the width of the window.
+     */
+    public int getWidth() {
+        return (int) (size.get() >>> 32);
+    }
+
+    /**
+     * @return the height of the window.
+     */
+    public int getHeight() {
+        return (int) size.get();
+    }
+
+    /**
+     * @return the X position of the window.
+     */
+    public int getX() {
+        return (int) (position.get() >>> 32);
+    }
+
+    /**
+     * @return the Y position of the window.
+     */
+    public int getY() {
+        return (int) position.get();
+    }
+
+    /**
+     * Checks of settling the size of the window.
+     *
+     * @param settleTime the time in milliseconds which the size should be unchanged.
+     * @return true if the window wasn't resized during the time.
+     */
+    public boolean isSizeSettled(final long settleTime) {
+        return System.nanoTime() - lastResizeTime >= settleTime * 1_000_000L;
+    }
+
+    /**
+     * Restore the previous callbacks of the window.
+     */
+    public void dispose() {
+        GLFW.glfwSetWindowSizeCallback(windowHandle, prevSizeCallback);
+        GLFW.glfwSetWindowPosCallback(windowHandle, prevPositionCallback);
+        sizeCallback.free();
+        positionCallback.free();
+    }
+}
@@ -0,0 +1,234 @@
+package com.jme3.jfx.injme.util;
+
+import com.jme3.renderer.Renderer;
+import com.jme3.texture.Texture2D;
+import com.jme3.util.BufferUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The streamer of frames to a texture through a pair of pixel unpack buffers. A changed region of a frame
+ * is copied to a mapped buffer in a worker thread, then the buffer is unmapped and the texture is updated
+ * from it, so the driver transfers pixels asynchronously and the render thread doesn't copy them.
+ * <p>
+ * All methods should be called in jME thread.
+ *
+ * @author JavaSaBr
+ */
+public class PixelBufferStreamer {
+
+    private static final int MAP_ACCESS_FLAGS = GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_INVALIDATE_BUFFER_BIT;
+
+    /**
+     * Checks of supporting streaming frames by the current GL context.
+     *
+     * @return true if streaming is supported.
+     */
+    public static boolean isSupported() {
+        final GLCapabilities capabilities = GL.getCapabilities();
+        return capabilities.OpenGL30 || capabilities.GL_ARB_map_buffer_range;
+    }
+
+    /**
+     * The ids of pixel unpack buffers.
+     */
+    @NotNull
+    private final IntBuffer pixelBufferObjects;
+
+    /**
+     * The width of frames.
+     */
+    private final int width;
+
+    /**
+     * The height of frames.
+     */
+    private final int height;
+
+    /**
+     * The GL format of pixels.
+     */
+    private final int pixelFormat;
+
+    /**
+     * The index of the next pixel unpack buffer.
+     */
+    private int index;
+
+    /**
+     * The copying of the pending region to the mapped buffer or null.
+     */
+    @Nullable
+    private CompletableFuture<Void> pendingCopy;
+
+    /**
+     * The packed pending region.
+     */
+    private long pendingRegion;
+
+    public PixelBufferStreamer(final int width, final int height, final int pixelFormat) {
+        this.width = width;
+        this.height = height;
+        this.pixelFormat = pixelFormat;
+        this.pixelBufferObjects = BufferUtils.createIntBuffer(2);
+
+        GL15.glGenBuffers(pixelBufferObjects);
+
+        for (int i = 0; i < pixelBufferObjects.limit(); i++) {
+            GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, pixelBufferObjects.get(i));
+            GL15.glBufferData(GL21.GL_PIXEL_UNPACK_BUFFER, width * height * 4, GL15.GL_STREAM_DRAW);
+        }
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+    }
+
+    /**
+     * @return the width of frames.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of frames.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return true if there is a started upload which isn't finished yet.
+     */
+    public boolean isUploading() {
+        return pendingCopy != null;
+    }
+
+    /**
+     * @return true if the started upload can be finished without waiting.
+     */
+    public boolean isReadyToFinish() {
+        final CompletableFuture<Void> pendingCopy = this.pendingCopy;
+        return pendingCopy == null || pendingCopy.isDone();
+    }
+
+    /**
+     * Start uploading the changed region of the frame. The frame shouldn't be changed until finishing
+     * the upload.
+     *
+     * @param frame  the pixels of the frame.
+     * @param region the packed changed region.
+     * @see PixelRegion
+     */
+    public void startUpload(@NotNull final ByteBuffer frame, final long region) {
+
+        if (pendingCopy != null) {
+            throw new IllegalStateException("The previous upload isn't finished.");
+        }
+
+        final int minX = PixelRegion.getMinX(region);
+        final int minY = PixelRegion.getMinY(region);
+        final int regionWidth = PixelRegion.getWidth(region);
+        final int regionHeight = PixelRegion.getHeight(region);
+        final int dataSize = regionWidth * regionHeight * 4;
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, pixelBufferObjects.get(index));
+        final ByteBuffer mapped = GL30.glMapBufferRange(GL21.GL_PIXEL_UNPACK_BUFFER, 0, dataSize, MAP_ACCESS_FLAGS);
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+
+        if (mapped == null) {
+            throw new IllegalStateException("Can't map the pixel unpack buffer.");
+        }
+
+        final ByteBuffer source = frame.duplicate();
+        final int frameWidth = width;
+
+        pendingRegion = region;
+        pendingCopy = CompletableFuture.runAsync(() -> {
+            for (int y = minY, last = minY + regionHeight; y < last; y++) {
+                final int offset = (y * frameWidth + minX) * 4;
+                source.limit(offset + regionWidth * 4);
+                source.position(offset);
+                mapped.put(source);
+            }
+        });
+    }
+
+    /**
+     * Finish the started upload, waits for copying of the region if it isn't finished yet.
+     *
+     * @param renderer the renderer.
+     * @param texture  the texture to update.
+     * @return false if the content of the mapped buffer was lost, so the texture needs a full update.
+     */
+    public boolean finishUpload(@NotNull final Renderer renderer, @NotNull final Texture2D texture) {
+
+        final CompletableFuture<Void> pendingCopy = this.pendingCopy;
+        if (pendingCopy == null) return true;
+
+        this.pendingCopy = null;
+
+        final int pixelBufferObject = pixelBufferObjects.get(index);
+        index = (index + 1) % pixelBufferObjects.limit();
+
+        boolean copied = true;
+
+        try {
+            pendingCopy.join();
+        } catch (final RuntimeException e) {
+            copied = false;
+        }
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, pixelBufferObject);
+
+        if (!GL15.glUnmapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER) || !copied) {
+            GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+            return false;
+        }
+
+        final long region = pendingRegion;
+
+        // binding through the renderer keeps its cache of bound textures valid
+        renderer.setTexture(0, texture);
+
+        GL11.glTexSubImage2D(GL11.GL_TEXTURE_2D, 0, PixelRegion.getMinX(region), PixelRegion.getMinY(region),
+                PixelRegion.getWidth(region), PixelRegion.getHeight(region), pixelFormat, GL11.GL_UNSIGNED_BYTE, 0L);
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+        return true;
+    }
+
+    /**
+     * Delete pixel unpack buffers, waits for copying of a started upload.
+     */
+    public void dispose() {
+
+        final CompletableFuture<Void> pendingCopy = this.pendingCopy;
+
+        if (pendingCopy != null) {
+
+            this.pendingCopy = null;
+
+            try {
+                pendingCopy.join();
+            } catch (final RuntimeException ignored) {
+            }
+
+            GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, pixelBufferObjects.get(index));
+            GL15.glUnmapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER);
+            GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+        }
+
+        GL15.glDeleteBuffers(pixelBufferObjects);
+        BufferUtils.destroyDirectBuffer(pixelBufferObjects);
+    }
+}
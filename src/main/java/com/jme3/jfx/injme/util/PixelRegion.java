@@ -0,0 +1,141 @@
+package com.jme3.jfx.injme.util;
+
+/**
+ * The utility class to work with rectangle regions of frames which are packed to longs as
+ * [minX, minY, maxX, maxY] by 16 bits, so they can be passed between threads without allocations.
+ * The max coordinates are exclusive.
+ *
+ * @author JavaSaBr
+ */
+public final class PixelRegion {
+
+    /**
+     * The empty region.
+     */
+    public static final long EMPTY = 0;
+
+    private static final int MASK = 0xFFFF;
+
+    private PixelRegion() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Pack the region.
+     *
+     * @param minX the min X.
+     * @param minY the min Y.
+     * @param maxX the max X (exclusive).
+     * @param maxY the max Y (exclusive).
+     * @return the packed region.
+     */
+    public static long of(final int minX, final int minY, final int maxX, final int maxY) {
+
+        if (maxX <= minX || maxY <= minY) {
+            return EMPTY;
+        }
+
+        return ((long) (minX & MASK) << 48) | ((long) (minY & MASK) << 32) |
+                ((long) (maxX & MASK) << 16) | (maxY & MASK);
+    }
+
+    /**
+     * Create the union of the regions.
+     *
+     * @param first  the first region.
+     * @param second the second region.
+     * @return the bounds of both regions.
+     */
+    public static long union(final long first, final long second) {
+
+        if (isEmpty(first)) {
+            return second;
+        } else if (isEmpty(second)) {
+            return first;
+        }
+
+        return of(Math.min(getMinX(first), getMinX(second)), Math.min(getMinY(first), getMinY(second)),
+                Math.max(getMaxX(first), getMaxX(second)), Math.max(getMaxY(first), getMaxY(second)));
+    }
+
+    /**
+     * Create the intersection of the regions.
+     *
+     * @param first  the first region.
+     * @param second the second region.
+     * @return the common part of both regions.
+     */
+    public static long intersection(final long first, final long second) {
+        return of(Math.max(getMinX(first), getMinX(second)), Math.max(getMinY(first), getMinY(second)),
+                Math.min(getMaxX(first), getMaxX(second)), Math.min(getMaxY(first), getMaxY(second)));
+    }
+
+    /**
+     * Checks of containing the second region in the first region, an empty region is contained in any region.
+     *
+     * @param first  the first region.
+     * @param second the second region.
+     * @return true if the first region contains the second region.
+     */
+    public static boolean contains(final long first, final long second) {
+        return isEmpty(second) || !isEmpty(first) &&
+                getMinX(first) <= getMinX(second) && getMinY(first) <= getMinY(second) &&
+                getMaxX(first) >= getMaxX(second) && getMaxY(first) >= getMaxY(second);
+    }
+
+    /**
+     * @param region the region.
+     * @return true if the region is empty.
+     */
+    public static boolean isEmpty(final long region) {
+        return getMaxX(region) <= getMinX(region) || getMaxY(region) <= getMinY(region);
+    }
+
+    /**
+     * @param region the region.
+     * @return the min X.
+     */
+    public static int getMinX(final long region) {
+        return (int) (region >>> 48) & MASK;
+    }
+
+    /**
+     * @param region the region.
+     * @return the min Y.
+     */
+    public static int getMinY(final long region) {
+        return (int) (region >>> 32) & MASK;
+    }
+
+    /**
+     * @param region the region.
+     * @return the max X (exclusive).
+     */
+    public static int getMaxX(final long region) {
+        return (int) (region >>> 16) & MASK;
+    }
+
+    /**
+     * @param region the region.
+     * @return the max Y (exclusive).
+     */
+    public static int getMaxY(final long region) {
+        return (int) region & MASK;
+    }
+
+    /**
+     * @param region the region.
+     * @return the width.
+     */
+    public static int getWidth(final long region) {
+        return Math.max(getMaxX(region) - getMinX(region), 0);
+    }
+
+    /**
+     * @param region the region.
+     * @return the height.
+     */
+    public static int getHeight(final long region) {
+        return Math.max(getMaxY(region) - getMinY(region), 0);
+    }
+}
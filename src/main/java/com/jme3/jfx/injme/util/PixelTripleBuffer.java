@@ -0,0 +1,230 @@
+package com.jme3.jfx.injme.util;
+
+import com.jme3.util.BufferUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The lock-free triple buffer of frame pixels between one writer thread and one reader thread.
+ * The writer fills the write slot and publishes it as the ready slot, the reader swaps the newest
+ * ready slot with its read slot, so neither of them waits or copies pixels. Every slot also keeps
+ * the changed region of its frame relative to the last frame taken by the reader and the bounds of
+ * visible content of its frame.
+ *
+ * @author JavaSaBr
+ */
+public class PixelTripleBuffer {
+
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH_BIT = 0b100;
+
+    /**
+     * The slots of pixels.
+     */
+    @NotNull
+    private final ByteBuffer[] slots;
+
+    /**
+     * The int presentations of the slots.
+     */
+    @NotNull
+    private final IntBuffer[] intSlots;
+
+    /**
+     * The packed changed regions of the slots.
+     *
+     * @see PixelRegion
+     */
+    @NotNull
+    private final long[] regions;
+
+    /**
+     * The packed bounds of visible content of the slots.
+     *
+     * @see PixelRegion
+     */
+    @NotNull
+    private final long[] bounds;
+
+    /**
+     * The index of the ready slot and the flag of having a new frame in it.
+     */
+    @NotNull
+    private final AtomicInteger readyState;
+
+    /**
+     * The width of frames.
+     */
+    private final int width;
+
+    /**
+     * The height of frames.
+     */
+    private final int height;
+
+    /**
+     * The index of the slot which is owned by the writer.
+     */
+    private int writeIndex;
+
+    /**
+     * The index of the slot which is owned by the reader.
+     */
+    private int readIndex;
+
+    public PixelTripleBuffer(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.slots = new ByteBuffer[3];
+        this.intSlots = new IntBuffer[3];
+        this.regions = new long[3];
+        this.bounds = new long[3];
+
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = BufferUtils.createByteBuffer(width * height * 4);
+            intSlots[i] = slots[i].asIntBuffer();
+        }
+
+        this.writeIndex = 0;
+        this.readyState = new AtomicInteger(1);
+        this.readIndex = 2;
+    }
+
+    /**
+     * @return the width of frames.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of frames.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the slot to write a new frame, should be called only by the writer.
+     *
+     * @return the slot to write.
+     */
+    public @NotNull ByteBuffer getWriteBuffer() {
+        return slots[writeIndex];
+    }
+
+    /**
+     * Gets the int presentation of the slot to write a new frame, should be called only by the writer.
+     *
+     * @return the int presentation of the slot to write.
+     */
+    public @NotNull IntBuffer getWriteIntBuffer() {
+        return intSlots[writeIndex];
+    }
+
+    /**
+     * Publish the written frame as the newest ready frame, should be called only by the writer.
+     * A previous ready frame which wasn't taken by the reader is dropped.
+     */
+    public void publish() {
+        final long fullRegion = PixelRegion.of(0, 0, width, height);
+        publish(fullRegion, fullRegion);
+    }
+
+    /**
+     * Publish the written frame as the newest ready frame, should be called only by the writer.
+     * A previous ready frame which wasn't taken by the reader is dropped and its changed region
+     * is merged to the region of the new frame.
+     *
+     * @param region the packed changed region of the written frame relative to the previous one.
+     * @param bounds the packed bounds of visible content of the written frame.
+     * @see PixelRegion
+     */
+    public void publish(final long region, final long bounds) {
+
+        this.bounds[writeIndex] = bounds;
+
+        while (true) {
+
+            final int prevState = readyState.get();
+
+            if ((prevState & FRESH_BIT) != 0) {
+                regions[writeIndex] = PixelRegion.union(region, regions[prevState & INDEX_MASK]);
+            } else {
+                regions[writeIndex] = region;
+            }
+
+            // the reader can take the ready frame meanwhile, so its region shouldn't be merged then
+            if (readyState.compareAndSet(prevState, writeIndex | FRESH_BIT)) {
+                writeIndex = prevState & INDEX_MASK;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks of having a new ready frame.
+     *
+     * @return true if there is a new ready frame.
+     */
+    public boolean hasReadyFrame() {
+        return (readyState.get() & FRESH_BIT) != 0;
+    }
+
+    /**
+     * Take the newest ready frame to the read slot, should be called only by the reader.
+     *
+     * @return true if the read slot contains a new frame.
+     */
+    public boolean swap() {
+
+        if (!hasReadyFrame()) {
+            return false;
+        }
+
+        readIndex = readyState.getAndSet(readIndex) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Gets the slot with the last taken frame, should be called only by the reader.
+     *
+     * @return the slot to read.
+     */
+    public @NotNull ByteBuffer getReadBuffer() {
+        return slots[readIndex];
+    }
+
+    /**
+     * Gets the changed region of the last taken frame relative to the previous taken frame, should be
+     * called only by the reader.
+     *
+     * @return the packed changed region.
+     * @see PixelRegion
+     */
+    public long getReadRegion() {
+        return regions[readIndex];
+    }
+
+    /**
+     * Gets the bounds of visible content of the last taken frame, should be called only by the reader.
+     *
+     * @return the packed bounds.
+     * @see PixelRegion
+     */
+    public long getReadBounds() {
+        return bounds[readIndex];
+    }
+
+    /**
+     * Release all slots, the buffer can't be used after that.
+     */
+    public void dispose() {
+        for (final ByteBuffer slot : slots) {
+            BufferUtils.destroyDirectBuffer(slot);
+        }
+    }
+}
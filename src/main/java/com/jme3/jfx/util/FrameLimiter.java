@@ -0,0 +1,261 @@
+package com.jme3.jfx.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The limiter of frame rate of a render thread. It parks the thread until the time of the next frame and
+ * spins only a short tail which covers the measured oversleeping of parking, so waiting doesn't load CPU.
+ * Frames can be aligned to JavaFX pulses by {@link #setPulseClock(JfxPulseClock)}, waiting can be interrupted
+ * by {@link #wakeUp()}.
+ * <p>
+ * The limiter should be used in one render thread, settings and statistics can be accessed from any thread.
+ *
+ * @author JavaSaBr
+ */
+public class FrameLimiter {
+
+    /**
+     * The max expected oversleeping of parking in nanoseconds.
+     */
+    private static final long MAX_OVERSLEEP = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * The initial expected oversleeping of parking in nanoseconds.
+     */
+    private static final long INITIAL_OVERSLEEP = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * The smoothing factor of the expected oversleeping.
+     */
+    private static final double OVERSLEEP_SMOOTHING = 0.1;
+
+    /**
+     * The histogram of times between frames.
+     */
+    @NotNull
+    private final FrameTimeHistogram histogram;
+
+    /**
+     * The clock of JavaFX pulses to align frames.
+     */
+    @Nullable
+    private volatile JfxPulseClock pulseClock;
+
+    /**
+     * The waiting render thread.
+     */
+    @Nullable
+    private volatile Thread waitingThread;
+
+    /**
+     * The flag of requesting the next frame without waiting.
+     */
+    private volatile boolean wakeUpRequested;
+
+    /**
+     * The time between frames in nanoseconds or 0 if frame rate isn't limited.
+     */
+    private volatile long framePeriod;
+
+    /**
+     * The time of the next frame in nanoseconds.
+     */
+    private long nextFrameTime;
+
+    /**
+     * The time of the last frame in nanoseconds.
+     */
+    private long lastFrameTime;
+
+    /**
+     * The expected oversleeping of parking in nanoseconds.
+     */
+    private volatile long oversleep;
+
+    public FrameLimiter() {
+        this.histogram = new FrameTimeHistogram();
+        this.oversleep = INITIAL_OVERSLEEP;
+    }
+
+    /**
+     * Set the max frame rate.
+     *
+     * @param frameRate the max count of frames per second or 0 to not limit frame rate.
+     */
+    public void setFrameRate(int frameRate) {
+        this.framePeriod = frameRate > 0 ? Math.round(1_000_000_000.0 / frameRate) : 0;
+    }
+
+    /**
+     * Get the max frame rate.
+     *
+     * @return the max count of frames per second or 0 if frame rate isn't limited.
+     */
+    public int getFrameRate() {
+        var framePeriod = this.framePeriod;
+        return framePeriod > 0 ? (int) Math.round(1_000_000_000.0 / framePeriod) : 0;
+    }
+
+    /**
+     * Set the clock of JavaFX pulses to align frames to them, the clock should be started.
+     *
+     * @param pulseClock the clock or null to not align frames.
+     */
+    public void setPulseClock(@Nullable JfxPulseClock pulseClock) {
+        this.pulseClock = pulseClock;
+    }
+
+    /**
+     * Get the clock of JavaFX pulses which frames are aligned to.
+     *
+     * @return the clock or null.
+     */
+    public @Nullable JfxPulseClock getPulseClock() {
+        return pulseClock;
+    }
+
+    /**
+     * Get the histogram of times between frames.
+     *
+     * @return the histogram.
+     */
+    public @NotNull FrameTimeHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Get the expected oversleeping of parking the thread.
+     *
+     * @return the oversleeping in nanoseconds.
+     */
+    public long getOversleep() {
+        return oversleep;
+    }
+
+    /**
+     * Request the next frame without waiting for its time, can be called from any thread.
+     */
+    public void wakeUp() {
+
+        wakeUpRequested = true;
+
+        var waitingThread = this.waitingThread;
+        if (waitingThread != null) {
+            LockSupport.unpark(waitingThread);
+        }
+    }
+
+    /**
+     * Wait for the time of the next frame and record the time of the frame.
+     */
+    public void waitForNextFrame() {
+
+        var framePeriod = this.framePeriod;
+        var now = System.nanoTime();
+
+        if (framePeriod > 0) {
+
+            var frameTime = nextFrameTime + framePeriod;
+
+            // don't try to catch up frames which were missed
+            if (now - frameTime > framePeriod) {
+                frameTime = now;
+            }
+
+            frameTime = alignToPulse(frameTime, now);
+            now = waitUntil(frameTime);
+
+            // the next frame is counted from the time of waking up if waiting was interrupted
+            nextFrameTime = Math.min(frameTime, now);
+
+        } else {
+            wakeUpRequested = false;
+        }
+
+        if (lastFrameTime != 0) {
+            histogram.record(now - lastFrameTime);
+        }
+
+        lastFrameTime = now;
+    }
+
+    /**
+     * Align the time of a frame to the nearest JavaFX pulse.
+     *
+     * @param frameTime the time of the frame.
+     * @param now       the current time.
+     * @return the aligned time of the frame.
+     */
+    private long alignToPulse(long frameTime, long now) {
+
+        var pulseClock = this.pulseClock;
+
+        if (pulseClock == null) {
+            return frameTime;
+        }
+
+        var pulsePeriod = pulseClock.getPulsePeriod();
+        var lastPulseTime = pulseClock.getLastPulseTime();
+
+        // JavaFX doesn't pulse now
+        if (pulsePeriod < 1 || now - lastPulseTime > pulsePeriod * 4) {
+            return frameTime;
+        }
+
+        var pulses = Math.round((double) (frameTime - lastPulseTime) / pulsePeriod);
+
+        return lastPulseTime + pulses * pulsePeriod;
+    }
+
+    /**
+     * Wait until the time by parking the thread and spinning the rest.
+     *
+     * @param time the time in nanoseconds.
+     * @return the current time after waiting.
+     */
+    private long waitUntil(long time) {
+
+        var now = System.nanoTime();
+
+        waitingThread = Thread.currentThread();
+
+        var parkTime = time - now - oversleep;
+
+        while (parkTime > 0 && !wakeUpRequested) {
+
+            LockSupport.parkNanos(parkTime);
+
+            var wakeTime = System.nanoTime();
+            var overslept = wakeTime - now - parkTime;
+
+            // spurious wakeups don't say anything about oversleeping
+            if (overslept >= 0) {
+                oversleep += (long) ((Math.min(overslept, MAX_OVERSLEEP) - oversleep) * OVERSLEEP_SMOOTHING);
+            }
+
+            now = wakeTime;
+
+            // parking doesn't wait with the interrupted flag
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            parkTime = time - now - oversleep;
+        }
+
+        waitingThread = null;
+
+        while (!wakeUpRequested && time - now > 0) {
+            Thread.onSpinWait();
+            now = System.nanoTime();
+        }
+
+        wakeUpRequested = false;
+
+        return now;
+    }
+}
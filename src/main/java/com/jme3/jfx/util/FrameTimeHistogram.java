@@ -0,0 +1,164 @@
+package com.jme3.jfx.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The histogram of frame times with buckets of {@link #BUCKET_WIDTH} nanoseconds. Times are recorded by one
+ * thread and can be read from any thread, times longer than the last bucket are counted in the last bucket.
+ *
+ * @author JavaSaBr
+ */
+public class FrameTimeHistogram {
+
+    /**
+     * The width of a bucket in nanoseconds.
+     */
+    public static final long BUCKET_WIDTH = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * The count of buckets, the last bucket counts all times longer than 100 ms.
+     */
+    public static final int BUCKET_COUNT = 1001;
+
+    /**
+     * The counts of frames by buckets.
+     */
+    @NotNull
+    private final AtomicLongArray buckets;
+
+    /**
+     * The total count of frames.
+     */
+    @NotNull
+    private final AtomicLong count;
+
+    /**
+     * The total time of frames in nanoseconds.
+     */
+    @NotNull
+    private final AtomicLong totalTime;
+
+    /**
+     * The max time of a frame in nanoseconds.
+     */
+    @NotNull
+    private final AtomicLong maxTime;
+
+    public FrameTimeHistogram() {
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new AtomicLong();
+        this.totalTime = new AtomicLong();
+        this.maxTime = new AtomicLong();
+    }
+
+    /**
+     * Record the time of a frame.
+     *
+     * @param frameTime the time of the frame in nanoseconds.
+     */
+    public void record(long frameTime) {
+
+        var bucket = (int) Math.min(Math.max(frameTime, 0) / BUCKET_WIDTH, BUCKET_COUNT - 1);
+
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalTime.addAndGet(frameTime);
+        maxTime.accumulateAndGet(frameTime, Math::max);
+    }
+
+    /**
+     * Get the count of recorded frames.
+     *
+     * @return the count of frames.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the average time of recorded frames.
+     *
+     * @return the average time in nanoseconds or 0 if there are no frames.
+     */
+    public long getAverageTime() {
+        var count = this.count.get();
+        return count < 1 ? 0 : totalTime.get() / count;
+    }
+
+    /**
+     * Get the max time of recorded frames.
+     *
+     * @return the max time in nanoseconds.
+     */
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    /**
+     * Get the time which isn't exceeded by the percent of recorded frames.
+     *
+     * @param percentile the percent of frames from 0 to 100.
+     * @return the upper bound of the bucket of the percentile in nanoseconds or 0 if there are no frames.
+     */
+    public long getPercentile(double percentile) {
+
+        var counts = getCounts();
+        var total = 0L;
+
+        for (var count : counts) {
+            total += count;
+        }
+
+        if (total < 1) {
+            return 0;
+        }
+
+        var threshold = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+        var accumulated = 0L;
+
+        for (int i = 0; i < counts.length; i++) {
+
+            accumulated += counts[i];
+
+            if (accumulated >= threshold && accumulated > 0) {
+                return (i + 1) * BUCKET_WIDTH;
+            }
+        }
+
+        return counts.length * BUCKET_WIDTH;
+    }
+
+    /**
+     * Get the counts of frames by buckets.
+     *
+     * @return the copy of counts.
+     */
+    public @NotNull long[] getCounts() {
+
+        var counts = new long[BUCKET_COUNT];
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+
+        return counts;
+    }
+
+    /**
+     * Clear all recorded frames.
+     */
+    public void reset() {
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+
+        count.set(0);
+        totalTime.set(0);
+        maxTime.set(0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.jme3.jfx.util;
+
+import javafx.animation.AnimationTimer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The clock of JavaFX pulses which tracks the time of the last pulse and the period between pulses, so
+ * other threads can align their frames to JavaFX frames. A started clock requests a pulse in every JavaFX
+ * frame, so one clock should be shared between all frame limiters.
+ *
+ * @author JavaSaBr
+ */
+public class JfxPulseClock {
+
+    /**
+     * The smoothing factor of the period between pulses.
+     */
+    private static final double PERIOD_SMOOTHING = 0.1;
+
+    /**
+     * The timer which is called on every pulse.
+     */
+    @NotNull
+    private final AnimationTimer timer;
+
+    /**
+     * The time of the last pulse in nanoseconds.
+     */
+    private volatile long lastPulseTime;
+
+    /**
+     * The average period between pulses in nanoseconds.
+     */
+    private volatile long pulsePeriod;
+
+    public JfxPulseClock() {
+        this.timer = new AnimationTimer() {
+
+            @Override
+            public void handle(long now) {
+                onPulse(now);
+            }
+        };
+    }
+
+    private void onPulse(long now) {
+
+        var lastPulseTime = this.lastPulseTime;
+        var pulsePeriod = this.pulsePeriod;
+
+        if (lastPulseTime != 0) {
+
+            var period = now - lastPulseTime;
+
+            if (pulsePeriod == 0) {
+                this.pulsePeriod = period;
+            } else {
+                this.pulsePeriod = pulsePeriod + (long) ((period - pulsePeriod) * PERIOD_SMOOTHING);
+            }
+        }
+
+        this.lastPulseTime = now;
+    }
+
+    /**
+     * Start tracking pulses, can be called from any thread.
+     */
+    public void start() {
+        JfxPlatform.runInFxThread(timer::start);
+    }
+
+    /**
+     * Stop tracking pulses, can be called from any thread.
+     */
+    public void stop() {
+        JfxPlatform.runInFxThread(() -> {
+            timer.stop();
+            lastPulseTime = 0;
+            pulsePeriod = 0;
+        });
+    }
+
+    /**
+     * Get the time of the last pulse in terms of {@link System#nanoTime()}.
+     *
+     * @return the time in nanoseconds or 0 if there were no pulses.
+     */
+    public long getLastPulseTime() {
+        return lastPulseTime;
+    }
+
+    /**
+     * Get the average period between pulses.
+     *
+     * @return the period in nanoseconds or 0 if it's unknown yet.
+     */
+    public long getPulsePeriod() {
+        return pulsePeriod;
+    }
+}
@@ -0,0 +1,17 @@
+#import "Common/ShaderLib/GLSLCompat.glsllib"
+
+uniform sampler2D m_Texture;
+
+varying vec2 texCoord;
+
+void main() {
+
+    vec4 pixel = texture2D(m_Texture, texCoord);
+
+    // bytes of a pixel are sampled as RGBA channels, so the channels are reordered here
+    #ifdef ARGB_PIXELS
+        gl_FragColor = pixel.gbar;
+    #else
+        gl_FragColor = pixel.bgra;
+    #endif
+}